@@ -0,0 +1,8 @@
+-- 02_idempotency.sql
+-- Clave de idempotencia para PostgresInboxWriter (INSERT ... ON CONFLICT DO NOTHING)
+
+ALTER TABLE spool_inbox.events
+    ADD COLUMN IF NOT EXISTS idempotency_key VARCHAR(255);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_inbox_idempotency_key
+    ON spool_inbox.events(idempotency_key);
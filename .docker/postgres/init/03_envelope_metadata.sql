@@ -0,0 +1,10 @@
+-- 03_envelope_metadata.sql
+-- Metadatos del envelope escritos por PostgresInboxWriter
+
+ALTER TABLE spool_inbox.events
+    ADD COLUMN IF NOT EXISTS partition_schema TEXT,
+    ADD COLUMN IF NOT EXISTS correlation_id VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS type VARCHAR(255),
+    ADD COLUMN IF NOT EXISTS envelope_status VARCHAR(20);
+
+CREATE INDEX IF NOT EXISTS idx_inbox_source ON spool_inbox.events(source);
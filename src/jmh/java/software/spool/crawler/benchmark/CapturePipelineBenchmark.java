@@ -0,0 +1,218 @@
+package software.spool.crawler.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.spool.core.adapter.jackson.RecordSerializerFactory;
+import software.spool.core.adapter.memory.InMemoryEventBroker;
+import software.spool.core.adapter.otel.OTELConfig;
+import software.spool.core.adapter.otel.OpenTelemetryMetricsRegistry;
+import software.spool.core.exception.DuplicateEventException;
+import software.spool.core.model.Event;
+import software.spool.core.model.event.SourcePayloadCaptured;
+import software.spool.core.model.vo.IdempotencyKey;
+import software.spool.core.pipeline.ObservedStep;
+import software.spool.core.pipeline.Pipeline;
+import software.spool.core.pipeline.PipelineContext;
+import software.spool.core.pipeline.Step;
+import software.spool.core.port.serde.NamingConvention;
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.builder.EventMappingSpecification;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.port.InboxWriter;
+import software.spool.crawler.api.utils.CrawlerPorts;
+import software.spool.crawler.api.utils.Discriminator;
+import software.spool.crawler.internal.control.PayloadCapturedHandler;
+import software.spool.crawler.internal.control.steps.*;
+
+import javax.management.AttributeNotFoundException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-record cost of the capture pipeline wired by
+ * {@code PollingCrawlerBuilder.initializePipeline()}, with the in-memory event
+ * broker and an in-memory {@link InboxWriter}.
+ *
+ * <pre>{@code
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark="CapturePipelineBenchmark -prof gc"
+ * }</pre>
+ *
+ * <p>
+ * {@code handle} drives {@link PayloadCapturedHandler#handle} through all six
+ * observed steps, and its {@code errors} counter reports the records routed
+ * to the error router, duplicates included; each {@code step*} method runs one step alone on a context
+ * prepared by the steps before it, so ns/op and {@code gc.alloc.rate.norm}
+ * read as ns/record and bytes/record per step. Parameters:
+ * </p>
+ * <ul>
+ * <li>{@code mappings}: 0, 1 or 10 domain mappings; with 10, nine decoys that
+ * never match are declared before the real one.</li>
+ * <li>{@code routing}: {@code trial} tries the mappings in turn,
+ * {@code discriminator} routes by the {@code kind} field.</li>
+ * <li>{@code duplicatePercent}: share of records the inbox reports as
+ * already stored.</li>
+ * <li>{@code tracing}: {@code on} initializes the OpenTelemetry SDK so that
+ * {@link ObservedStep}s record spans, {@code off} leaves the no-op API.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CapturePipelineBenchmark {
+    private static final String SOURCE_ID = "bench";
+    private static final int RECORDS = 1024;
+
+    @Param({"0", "1", "10"})
+    public int mappings;
+
+    @Param({"trial", "discriminator"})
+    public String routing;
+
+    @Param({"0", "10", "50", "100"})
+    public int duplicatePercent;
+
+    @Param({"off", "on"})
+    public String tracing;
+
+    private final LongAdder errors = new LongAdder();
+    private CapturedRecord[] records;
+    private PipelineContext[] received;
+    private PipelineContext[] captured;
+    private PipelineContext[] mapped;
+    private PayloadCapturedHandler handler;
+    private Step<PipelineContext, PipelineContext> measureSize;
+    private Step<PipelineContext, PipelineContext> buildCaptured;
+    private Step<PipelineContext, PipelineContext> emitDomainEvent;
+    private Step<PipelineContext, PipelineContext> publishCaptured;
+    private Step<PipelineContext, PipelineContext> storeEnvelope;
+    private Step<PipelineContext, PipelineContext> publishStored;
+    private int next;
+
+    public record Trade(long tid, String kind, String symbol, String price, String amount, String type) {}
+
+    public record Decoy(Nested symbol) {
+        public record Nested(int value) {}
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws AttributeNotFoundException {
+        if (tracing.equals("on")) OTELConfig.init("crawler-benchmark");
+        Set<String> duplicates = new HashSet<>();
+        records = new CapturedRecord[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            String payload = "{\"tid\":" + i + ",\"kind\":\"trade\",\"symbol\":\"btcusd\",\"price\":\"64000."
+                    + i % 100 + "\",\"amount\":\"0.015\",\"type\":\"" + (i % 2 == 0 ? "buy" : "sell") + "\"}";
+            records[i] = CapturedRecord.of(payload);
+            if (i % 100 < duplicatePercent) duplicates.add(IdempotencyKey.of(SOURCE_ID, payload).value());
+        }
+        InboxWriter inbox = envelope -> duplicates.contains(envelope.idempotencyKey().value())
+                ? null : envelope.idempotencyKey();
+        CrawlerPorts ports = CrawlerPorts.builder().inbox(inbox).bus(new InMemoryEventBroker()).build();
+        EventMappingSpecification spec = mappingSpecification();
+
+        measureSize = new ObservedStep<>("measure-size", new PayloadSizeMetricStep(new OpenTelemetryMetricsRegistry()
+                .histogram("spool.captured.payload.size", "", "By")));
+        buildCaptured = new ObservedStep<>("build-captured", new BuildCapturedEventStep());
+        emitDomainEvent = new ObservedStep<>("emit-domain-event", new PublishDomainEventStep(spec.buildEmitter(ports.bus())));
+        publishCaptured = new ObservedStep<>("publish-captured", new PublishCapturedEvent(ports.bus()));
+        storeEnvelope = new ObservedStep<>("store-envelope", new BuildAndStoreEnvelopeStep(ports.inboxWriter(),
+                RecordSerializerFactory.record(), spec.partitionAttributes()));
+        publishStored = new ObservedStep<>("publish-stored", new PublishEnvelopeStoredStep(ports.bus()));
+
+        Pipeline<PipelineContext, PipelineContext> pipeline = Pipeline.<PipelineContext>start()
+                .add(measureSize).add(buildCaptured).add(emitDomainEvent)
+                .add(publishCaptured).add(storeEnvelope).add(publishStored);
+        ErrorRouter errorRouter = new ErrorRouter().orElse((e, cause) -> errors.increment());
+        handler = new PayloadCapturedHandler(pipeline, SOURCE_ID, errorRouter);
+
+        received = new PipelineContext[RECORDS];
+        captured = new PipelineContext[RECORDS];
+        mapped = new PipelineContext[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            received[i] = PipelineContext.empty()
+                    .with(CapturedPayloadKeys.SOURCE_ID, SOURCE_ID)
+                    .with(CapturedPayloadKeys.PAYLOAD, records[i].payload())
+                    .with(CapturedPayloadKeys.RECORD, records[i]);
+            captured[i] = buildCaptured.apply(received[i]);
+            mapped[i] = emitDomainEvent.apply(captured[i]);
+        }
+    }
+
+    private EventMappingSpecification mappingSpecification() {
+        EventMappingSpecification spec = new EventMappingSpecification(NamingConvention.SNAKE_CASE);
+        boolean discriminated = routing.equals("discriminator");
+        for (int i = 0; i < mappings - 1; i++) {
+            if (discriminated)
+                spec.addDomainEvent(Discriminator.field("kind", "decoy-" + i), Decoy.class, CapturePipelineBenchmark::toEvent);
+            else spec.addDomainEvent(Decoy.class, CapturePipelineBenchmark::toEvent);
+        }
+        if (mappings > 0) {
+            if (discriminated)
+                spec.addDomainEvent(Discriminator.field("kind", "trade"), Trade.class, CapturePipelineBenchmark::toEvent, "symbol");
+            else spec.addDomainEvent(Trade.class, CapturePipelineBenchmark::toEvent, "symbol");
+        }
+        return spec;
+    }
+
+    private static Event toEvent(Object dto, IdempotencyKey key) {
+        return SourcePayloadCaptured.builder().idempotencyKey(key).correlationId("bench").build();
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = (index + 1) & (RECORDS - 1);
+        return index;
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long errors;
+    }
+
+    @Benchmark
+    public void handle(Counters counters) {
+        long before = errors.sum();
+        handler.handle(records[nextIndex()]);
+        counters.errors += errors.sum() - before;
+    }
+
+    @Benchmark
+    public PipelineContext stepMeasureSize() throws AttributeNotFoundException {
+        return measureSize.apply(received[nextIndex()]);
+    }
+
+    @Benchmark
+    public PipelineContext stepBuildCaptured() throws AttributeNotFoundException {
+        return buildCaptured.apply(received[nextIndex()]);
+    }
+
+    @Benchmark
+    public PipelineContext stepEmitDomainEvent() throws AttributeNotFoundException {
+        return emitDomainEvent.apply(captured[nextIndex()]);
+    }
+
+    @Benchmark
+    public PipelineContext stepPublishCaptured() throws AttributeNotFoundException {
+        return publishCaptured.apply(mapped[nextIndex()]);
+    }
+
+    @Benchmark
+    public PipelineContext stepStoreEnvelope() throws AttributeNotFoundException {
+        PipelineContext ctx = mapped[nextIndex()];
+        try {
+            return storeEnvelope.apply(ctx);
+        } catch (DuplicateEventException e) {
+            return ctx;
+        }
+    }
+
+    @Benchmark
+    public PipelineContext stepPublishStored() throws AttributeNotFoundException {
+        return publishStored.apply(mapped[nextIndex()]);
+    }
+}
@@ -0,0 +1,122 @@
+package software.spool.crawler.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.spool.core.adapter.jackson.RecordSerializerFactory;
+import software.spool.core.model.EnvelopeStatus;
+import software.spool.core.model.event.SourcePayloadCaptured;
+import software.spool.core.model.vo.Envelope;
+import software.spool.core.model.vo.EventMetadata;
+import software.spool.core.model.vo.EventMetadataKey;
+import software.spool.core.model.vo.IdempotencyKey;
+import software.spool.core.model.vo.PartitionKeySchema;
+import software.spool.core.pipeline.PipelineContext;
+import software.spool.core.port.bus.Destination;
+import software.spool.core.port.serde.RecordSerializer;
+import software.spool.crawler.internal.control.steps.BuildEnvelopeStep;
+import software.spool.crawler.internal.control.steps.CapturedPayloadKeys;
+import software.spool.crawler.internal.utils.CorrelationIds;
+import software.spool.crawler.internal.utils.EventDestinations;
+import software.spool.crawler.internal.utils.Utf8;
+
+import javax.management.AttributeNotFoundException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares the per-record work of the capture steps before and after the
+ * allocation rework. Each {@code baseline*} method reproduces the previous
+ * implementation, its {@code lean*} counterpart calls the current one.
+ *
+ * <pre>{@code
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark="CaptureStepsAllocationBenchmark -prof gc"
+ * }</pre>
+ *
+ * <p>
+ * Compare {@code gc.alloc.rate.norm} (bytes per operation) between pairs.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CaptureStepsAllocationBenchmark {
+    private static final String SOURCE_ID = "bench";
+    private static final List<String> PARTITION_ATTRIBUTES = List.of("symbol");
+
+    @Param({"{\"symbol\":\"btcusd\",\"price\":\"64000.12\",\"amount\":\"0.015\",\"type\":\"buy\"}",
+            "{\"symbol\":\"€-usd\",\"note\":\"niño – 東京 ✓\",\"price\":\"1.07\"}"})
+    public String payload;
+
+    private SourcePayloadCaptured captured;
+    private PipelineContext context;
+    private RecordSerializer<PartitionKeySchema> serializer;
+    private BuildEnvelopeStep envelopeStep;
+
+    @Setup
+    public void setUp() {
+        captured = SourcePayloadCaptured.builder()
+                .idempotencyKey(IdempotencyKey.of(SOURCE_ID, payload))
+                .correlationId(CorrelationIds.next())
+                .build();
+        context = PipelineContext.empty()
+                .with(CapturedPayloadKeys.SOURCE_ID, SOURCE_ID)
+                .with(CapturedPayloadKeys.PAYLOAD, payload)
+                .with(CapturedPayloadKeys.CAPTURED_EVENT, captured)
+                .with(CapturedPayloadKeys.DOMAIN_MAPPING, Optional.empty());
+        serializer = RecordSerializerFactory.record();
+        envelopeStep = new BuildEnvelopeStep(serializer, PARTITION_ATTRIBUTES);
+    }
+
+    @Benchmark
+    public Destination baselineDestination() {
+        return new Destination("spool." + captured.getClass().getSimpleName());
+    }
+
+    @Benchmark
+    public Destination leanDestination() {
+        return EventDestinations.destinationOf(captured.getClass());
+    }
+
+    @Benchmark
+    public long baselinePayloadSize() {
+        return payload.getBytes(UTF_8).length;
+    }
+
+    @Benchmark
+    public long leanPayloadSize() {
+        return Utf8.length(payload);
+    }
+
+    @Benchmark
+    public String baselineCorrelationId() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String leanCorrelationId() {
+        return CorrelationIds.next();
+    }
+
+    @Benchmark
+    public PipelineContext baselineEnvelope() {
+        EventMetadata metadata = new EventMetadata()
+                .set(EventMetadataKey.SOURCE, SOURCE_ID)
+                .set(EventMetadataKey.PARTITION_SCHEMA,
+                        serializer.serialize(PartitionKeySchema.of(SOURCE_ID, null, PARTITION_ATTRIBUTES)))
+                .set(EventMetadataKey.CORRELATION_ID, captured.correlationId());
+        return context.with(CapturedPayloadKeys.ENVELOPE, new Envelope(captured.idempotencyKey(), metadata,
+                payload, EnvelopeStatus.CAPTURED, 0, Instant.now()));
+    }
+
+    @Benchmark
+    public PipelineContext leanEnvelope() throws AttributeNotFoundException {
+        return envelopeStep.apply(context);
+    }
+}
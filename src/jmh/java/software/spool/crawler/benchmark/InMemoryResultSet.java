@@ -0,0 +1,136 @@
+package software.spool.crawler.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.function.LongFunction;
+
+/**
+ * Forward-only, read-only {@link ResultSet} stand-in whose rows are produced
+ * on demand, so benchmarks can stream millions of rows without a database or
+ * materializing them.
+ *
+ * <p>
+ * Only the navigation, metadata and getter methods used by the crawler are
+ * implemented; anything else throws {@link SQLFeatureNotSupportedException}.
+ * </p>
+ */
+final class InMemoryResultSet {
+    private InMemoryResultSet() {}
+
+    /**
+     * @param labels   column labels
+     * @param sqlTypes {@link java.sql.Types} of each column
+     * @param rows     number of rows
+     * @param row      produces the values of the given zero-based row
+     */
+    static ResultSet of(String[] labels, int[] sqlTypes, long rows, LongFunction<Object[]> row) {
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                InMemoryResultSet.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> labels.length;
+                    case "getColumnLabel", "getColumnName" -> labels[(int) args[0] - 1];
+                    case "getColumnType" -> sqlTypes[(int) args[0] - 1];
+                    case "getColumnClassName" -> Object.class.getName();
+                    case "isNullable" -> ResultSetMetaData.columnNullable;
+                    case "unwrap" -> null;
+                    case "isWrapperFor" -> false;
+                    default -> throw new SQLFeatureNotSupportedException(method.getName());
+                });
+        Cursor cursor = new Cursor(rows, row);
+        return (ResultSet) Proxy.newProxyInstance(
+                InMemoryResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "next" -> cursor.next();
+                    case "getMetaData" -> metaData;
+                    case "getObject" -> cursor.value(column(labels, args[0]));
+                    case "getString" -> {
+                        Object value = cursor.value(column(labels, args[0]));
+                        yield value == null ? null : value.toString();
+                    }
+                    case "getLong" -> {
+                        Object value = cursor.value(column(labels, args[0]));
+                        yield value == null ? 0L : ((Number) value).longValue();
+                    }
+                    case "getInt" -> {
+                        Object value = cursor.value(column(labels, args[0]));
+                        yield value == null ? 0 : ((Number) value).intValue();
+                    }
+                    case "getFloat" -> {
+                        Object value = cursor.value(column(labels, args[0]));
+                        yield value == null ? 0f : ((Number) value).floatValue();
+                    }
+                    case "getBigDecimal" -> {
+                        Object value = cursor.value(column(labels, args[0]));
+                        yield value == null ? null : new BigDecimal(value.toString());
+                    }
+                    case "getDouble" -> {
+                        Object value = cursor.value(column(labels, args[0]));
+                        yield value == null ? 0d : ((Number) value).doubleValue();
+                    }
+                    case "getBoolean" -> {
+                        Object value = cursor.value(column(labels, args[0]));
+                        yield value != null && (Boolean) value;
+                    }
+                    case "wasNull" -> cursor.lastWasNull;
+                    case "getRow" -> (int) cursor.index + 1;
+                    case "getType" -> ResultSet.TYPE_FORWARD_ONLY;
+                    case "getConcurrency" -> ResultSet.CONCUR_READ_ONLY;
+                    case "getFetchSize" -> 0;
+                    case "setFetchSize", "setFetchDirection" -> null;
+                    case "getFetchDirection" -> ResultSet.FETCH_FORWARD;
+                    case "close" -> {
+                        cursor.closed = true;
+                        yield null;
+                    }
+                    case "isClosed" -> cursor.closed;
+                    case "unwrap" -> null;
+                    case "isWrapperFor" -> false;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "InMemoryResultSet[" + rows + " rows]";
+                    default -> throw new SQLFeatureNotSupportedException(method.getName());
+                });
+    }
+
+    private static int column(String[] labels, Object column) throws SQLException {
+        if (column instanceof Integer index) return index - 1;
+        for (int i = 0; i < labels.length; i++)
+            if (labels[i].equalsIgnoreCase((String) column)) return i;
+        throw new SQLException("Unknown column: " + column);
+    }
+
+    private static final class Cursor {
+        private final long rows;
+        private final LongFunction<Object[]> row;
+        private long index = -1;
+        private Object[] current;
+        private boolean lastWasNull;
+        private boolean closed;
+
+        private Cursor(long rows, LongFunction<Object[]> row) {
+            this.rows = rows;
+            this.row = row;
+        }
+
+        private boolean next() throws SQLException {
+            if (closed) throw new SQLException("ResultSet closed");
+            if (index + 1 >= rows) {
+                current = null;
+                return false;
+            }
+            current = row.apply(++index);
+            return true;
+        }
+
+        private Object value(int column) throws SQLException {
+            if (current == null) throw new SQLException("No current row");
+            Object value = current[column];
+            lastWasNull = value == null;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package software.spool.crawler.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import software.spool.core.adapter.jackson.PayloadDeserializerFactory;
+import software.spool.core.adapter.jackson.PayloadLocatorFactory;
+import software.spool.core.adapter.jackson.RecordEnricherFactory;
+import software.spool.core.adapter.jackson.RecordSerializerFactory;
+import software.spool.crawler.api.port.PayloadNormalizer;
+import software.spool.crawler.api.utils.StandardNormalizer;
+import software.spool.crawler.internal.utils.factory.NormalizerFactory;
+import software.spool.crawler.internal.utils.factory.PayloadSplitterFactory;
+
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures {@link PayloadNormalizer#transform} per built-in format, payload
+ * size and document shape.
+ *
+ * <pre>{@code
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark="NormalizerBenchmark -prof gc"
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark="NormalizerBenchmark.documents -p format=JSON_ARRAY -p sizeBytes=1024"
+ * }</pre>
+ *
+ * <p>
+ * {@code documents} covers the text formats. Its {@code shape} is either
+ * {@code plain} (array at the root) or {@code rootPath} (array under
+ * {@code /data} next to a {@code meta} object). {@code enrichedDocuments}
+ * reads the {@code rootPath} document with every record enriched from
+ * {@code /meta}; {@code JSON_ARRAY_STREAM} is left out there, since with
+ * enrichment it falls back to the {@code JSON_ARRAY} pipeline. {@code resultSet}
+ * streams rows from an in-memory {@link ResultSet} stand-in whose rows add up
+ * to roughly the same number of bytes once serialized, through either the
+ * map-based {@code RESULT_SET} format or the direct {@code RESULT_SET_STREAM}
+ * one.
+ * </p>
+ *
+ * <p>
+ * Besides ops/s, the {@code records} and {@code bytes} counters report
+ * records and input bytes per second, and {@code -prof gc} adds
+ * {@code gc.alloc.rate.norm}. The 500 MB payloads need about 12 GB of heap
+ * (the fork runs with {@code -Xmx16g}); pass a smaller {@code -p sizeBytes}
+ * list on smaller machines.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx16g"})
+public class NormalizerBenchmark {
+    private static final String[] SYMBOLS = {"btcusd", "ethusd", "solusd", "ethbtc"};
+    private static final String[] TYPES = {"buy", "sell"};
+    private static final String[] COLUMNS = {"tid", "symbol", "price", "amount", "type", "timestampms"};
+    private static final int[] COLUMN_TYPES = {Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.VARCHAR, Types.BIGINT};
+    private static final int APPROX_RECORD_BYTES = 110;
+
+    @State(Scope.Benchmark)
+    public static class DocumentState {
+        @Param({"JSON_ARRAY", "JSON_ARRAY_STREAM", "JSON_OBJECT", "YAML_ARRAY"})
+        public StandardNormalizer.Format format;
+
+        @Param({"plain", "rootPath"})
+        public String shape;
+
+        @Param({"1024", "1048576", "104857600", "524288000"})
+        public long sizeBytes;
+
+        PayloadNormalizer normalizer;
+        String payload;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            boolean wrapped = shape.equals("rootPath");
+            normalizer = new StandardNormalizer.Builder().rootPath(wrapped ? "/data" : "").valueOf(format);
+            payload = format == StandardNormalizer.Format.YAML_ARRAY
+                    ? yamlDocument(sizeBytes, wrapped)
+                    : jsonDocument(sizeBytes, wrapped);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class EnrichedState {
+        @Param({"JSON_ARRAY", "JSON_OBJECT", "YAML_ARRAY"})
+        public StandardNormalizer.Format format;
+
+        @Param({"1024", "1048576", "104857600", "524288000"})
+        public long sizeBytes;
+
+        PayloadNormalizer normalizer;
+        String payload;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            normalizer = enrichedNormalizer(format, "/data");
+            payload = format == StandardNormalizer.Format.YAML_ARRAY
+                    ? yamlDocument(sizeBytes, true)
+                    : jsonDocument(sizeBytes, true);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ResultSetState {
+        @Param({"RESULT_SET", "RESULT_SET_STREAM"})
+        public StandardNormalizer.Format format;
+
+        @Param({"1024", "1048576", "104857600", "524288000"})
+        public long sizeBytes;
+
+        PayloadNormalizer normalizer;
+        long rows;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            normalizer = new StandardNormalizer.Builder().valueOf(format);
+            rows = Math.max(1, sizeBytes / APPROX_RECORD_BYTES);
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long records;
+        public long bytes;
+    }
+
+    @Benchmark
+    public void documents(DocumentState state, Counters counters, Blackhole blackhole) {
+        try (Stream<String> records = state.normalizer.transform(state.payload)) {
+            records.forEach(record -> {
+                blackhole.consume(record);
+                counters.records++;
+            });
+        }
+        counters.bytes += state.sizeBytes;
+    }
+
+    @Benchmark
+    public void enrichedDocuments(EnrichedState state, Counters counters, Blackhole blackhole) {
+        try (Stream<String> records = state.normalizer.transform(state.payload)) {
+            records.forEach(record -> {
+                blackhole.consume(record);
+                counters.records++;
+            });
+        }
+        counters.bytes += state.sizeBytes;
+    }
+
+    @Benchmark
+    public void resultSet(ResultSetState state, Counters counters, Blackhole blackhole) {
+        ResultSet rows = InMemoryResultSet.of(COLUMNS, COLUMN_TYPES, state.rows, NormalizerBenchmark::row);
+        try (Stream<String> records = state.normalizer.transform(rows)) {
+            records.forEach(record -> {
+                blackhole.consume(record);
+                counters.records++;
+            });
+        }
+        counters.bytes += state.sizeBytes;
+    }
+
+    /**
+     * Same stages as the built-in JSON and YAML formats, with the extractor
+     * taking the {@code meta} object of the document as enrichment context for
+     * the shared JSON enricher.
+     */
+    private static PayloadNormalizer enrichedNormalizer(StandardNormalizer.Format format, String rootPath) {
+        return NormalizerFactory.<JsonNode, JsonNode, JsonNode>of(
+                format == StandardNormalizer.Format.YAML_ARRAY
+                        ? PayloadDeserializerFactory.yaml().asNode()
+                        : PayloadDeserializerFactory.json().asNode(),
+                document -> document.path("meta"),
+                PayloadLocatorFactory.fromRootPath(rootPath),
+                format == StandardNormalizer.Format.JSON_OBJECT
+                        ? PayloadSplitterFactory.single()
+                        : PayloadSplitterFactory.jsonArray(),
+                RecordEnricherFactory.json(),
+                RecordSerializerFactory.jsonNode());
+    }
+
+    private static String jsonDocument(long sizeBytes, boolean wrapped) {
+        StringBuilder json = new StringBuilder((int) Math.min(Integer.MAX_VALUE - 16, sizeBytes + 256));
+        if (wrapped) json.append("{\"meta\":{\"exchange\":\"gemini\",\"feed\":\"trades\"},\"data\":");
+        json.append('[');
+        for (long i = 0; json.length() < sizeBytes || i == 0; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"tid\":").append(i)
+                    .append(",\"symbol\":\"").append(SYMBOLS[(int) (i & 3)])
+                    .append("\",\"price\":\"").append(60000 + i % 5000).append(".12")
+                    .append("\",\"amount\":\"0.0").append(i % 97)
+                    .append("\",\"type\":\"").append(TYPES[(int) (i & 1)])
+                    .append("\",\"timestampms\":").append(1700000000000L + i).append('}');
+        }
+        json.append(']');
+        if (wrapped) json.append('}');
+        return json.toString();
+    }
+
+    private static String yamlDocument(long sizeBytes, boolean wrapped) {
+        StringBuilder yaml = new StringBuilder((int) Math.min(Integer.MAX_VALUE - 16, sizeBytes + 256));
+        String indent = wrapped ? "  " : "";
+        if (wrapped) yaml.append("meta:\n  exchange: gemini\n  feed: trades\ndata:\n");
+        for (long i = 0; yaml.length() < sizeBytes || i == 0; i++) {
+            yaml.append(indent).append("- tid: ").append(i).append('\n')
+                    .append(indent).append("  symbol: ").append(SYMBOLS[(int) (i & 3)]).append('\n')
+                    .append(indent).append("  price: \"").append(60000 + i % 5000).append(".12\"\n")
+                    .append(indent).append("  amount: \"0.0").append(i % 97).append("\"\n")
+                    .append(indent).append("  type: ").append(TYPES[(int) (i & 1)]).append('\n')
+                    .append(indent).append("  timestampms: ").append(1700000000000L + i).append('\n');
+        }
+        return yaml.toString();
+    }
+
+    private static Object[] row(long i) {
+        return new Object[]{i, SYMBOLS[(int) (i & 3)], (60000 + i % 5000) + ".12", "0.0" + i % 97,
+                TYPES[(int) (i & 1)], 1700000000000L + i};
+    }
+}
@@ -0,0 +1,95 @@
+package software.spool.crawler.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import software.spool.core.model.EnvelopeStatus;
+import software.spool.core.model.vo.Envelope;
+import software.spool.core.model.vo.EventMetadata;
+import software.spool.core.model.vo.IdempotencyKey;
+import software.spool.crawler.api.port.InboxWriteResult;
+import software.spool.crawler.internal.adapter.postgres.PostgresInboxWriter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sizes {@link PostgresInboxWriter} pool and batch settings against a local
+ * PostgreSQL (see {@code .docker/docker-compose.yml}).
+ *
+ * <pre>{@code
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark=PostgresInboxWriterBenchmark
+ * }</pre>
+ *
+ * <p>
+ * Connection settings are read from the {@code spool.bench.jdbcUrl},
+ * {@code spool.bench.user} and {@code spool.bench.password} system properties.
+ * The {@code records} counter reports envelopes stored per second.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(4)
+public class PostgresInboxWriterBenchmark {
+    private static final String PAYLOAD = "{\"symbol\":\"btcusd\",\"price\":\"64000.12\",\"amount\":\"0.015\",\"type\":\"buy\"}";
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    @Param({"2", "8", "16"})
+    public int poolSize;
+
+    @Param({"1", "100", "1000", "10000"})
+    public int batchSize;
+
+    @Param({"5000", "2147483647"})
+    public int copyThreshold;
+
+    private PostgresInboxWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        writer = PostgresInboxWriter.builder()
+                .jdbcUrl(System.getProperty("spool.bench.jdbcUrl", "jdbc:postgresql://localhost:5432/spool"))
+                .credentials(System.getProperty("spool.bench.user", "spool"),
+                        System.getProperty("spool.bench.password", "spool"))
+                .maxPoolSize(poolSize)
+                .copyThreshold(copyThreshold)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        writer.close();
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long records;
+        public long duplicates;
+    }
+
+    @Benchmark
+    public List<InboxWriteResult> receiveAll(Counters counters) {
+        List<InboxWriteResult> results = writer.receiveAll(batch());
+        for (InboxWriteResult result : results) {
+            if (result.status() == InboxWriteResult.Status.STORED) counters.records++;
+            else counters.duplicates++;
+        }
+        return results;
+    }
+
+    private List<Envelope> batch() {
+        List<Envelope> envelopes = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            String payload = PAYLOAD.replace("}", ",\"tid\":" + SEQUENCE.incrementAndGet() + "}");
+            envelopes.add(new Envelope(IdempotencyKey.of("bench", payload), new EventMetadata(),
+                    payload, EnvelopeStatus.CAPTURED, 0, Instant.now()));
+        }
+        return envelopes;
+    }
+}
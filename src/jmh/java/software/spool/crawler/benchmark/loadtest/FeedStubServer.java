@@ -0,0 +1,161 @@
+package software.spool.crawler.benchmark.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local {@link HttpServer} serving synthetic JSON and YAML trade feeds under
+ * {@code /feeds/<name>}.
+ *
+ * <p>
+ * Each feed always returns its current window of records. Every request
+ * first replaces a {@code changeRate} share of the window with new records,
+ * then answers after the configured latency. Each record carries the
+ * {@link System#nanoTime()} of its creation in {@code emitted_at}, so a
+ * consumer in the same JVM can measure end-to-end latency. Unchanged feeds
+ * answer conditional requests with {@code 304}.
+ * </p>
+ */
+final class FeedStubServer implements AutoCloseable {
+    private static final String[] SYMBOLS = {"btcusd", "ethusd", "solusd", "ethbtc"};
+
+    enum Format { JSON, YAML }
+
+    record FeedSpec(String name, Format format, int records, Duration latency, double changeRate) {}
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, Feed> feeds;
+    private final AtomicLong sequence;
+
+    FeedStubServer(int threads) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.feeds = new ConcurrentHashMap<>();
+        this.sequence = new AtomicLong();
+        server.createContext("/feeds/", this::serve);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String register(FeedSpec spec) {
+        feeds.put(spec.name(), new Feed(spec));
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/feeds/" + spec.name();
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Feed feed = feeds.get(exchange.getRequestURI().getPath().substring("/feeds/".length()));
+            if (feed == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            Feed.Snapshot snapshot = feed.advance();
+            sleep(feed.spec.latency());
+            exchange.getResponseHeaders().set("ETag", snapshot.etag());
+            if (snapshot.etag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type",
+                    feed.spec.format() == Format.JSON ? "application/json" : "application/yaml");
+            exchange.sendResponseHeaders(200, snapshot.body().length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(snapshot.body());
+            }
+        }
+    }
+
+    private static void sleep(Duration latency) {
+        if (latency.isZero()) return;
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private final class Feed {
+        private final FeedSpec spec;
+        private final long[] ids;
+        private final long[] emittedAt;
+        private int oldest;
+        private long generation;
+        private double carry;
+        private Snapshot snapshot;
+
+        private Feed(FeedSpec spec) {
+            this.spec = spec;
+            this.ids = new long[spec.records()];
+            this.emittedAt = new long[spec.records()];
+            for (int i = 0; i < ids.length; i++) replace(i);
+        }
+
+        private synchronized Snapshot advance() {
+            carry += spec.changeRate() * ids.length;
+            int changes = (int) Math.min(ids.length, carry);
+            carry -= changes;
+            for (int i = 0; i < changes; i++) {
+                replace(oldest);
+                oldest = (oldest + 1) % ids.length;
+            }
+            if (changes > 0 || snapshot == null) {
+                generation++;
+                snapshot = new Snapshot("\"g" + generation + "\"", render());
+            }
+            return snapshot;
+        }
+
+        private void replace(int slot) {
+            ids[slot] = sequence.incrementAndGet();
+            emittedAt[slot] = System.nanoTime();
+        }
+
+        private byte[] render() {
+            StringBuilder out = new StringBuilder(ids.length * 130);
+            if (spec.format() == Format.JSON) out.append('[');
+            for (int i = 0; i < ids.length; i++) {
+                int slot = (oldest + i) % ids.length;
+                long id = ids[slot];
+                String symbol = SYMBOLS[(int) (id & 3)];
+                String price = (60000 + id % 5000) + ".12";
+                String type = (id & 1) == 0 ? "buy" : "sell";
+                if (spec.format() == Format.JSON) {
+                    if (i > 0) out.append(',');
+                    out.append("{\"tid\":").append(id)
+                            .append(",\"symbol\":\"").append(symbol)
+                            .append("\",\"price\":\"").append(price)
+                            .append("\",\"amount\":\"0.015\",\"type\":\"").append(type)
+                            .append("\",\"emitted_at\":").append(emittedAt[slot]).append('}');
+                } else {
+                    out.append("- tid: ").append(id)
+                            .append("\n  symbol: ").append(symbol)
+                            .append("\n  price: \"").append(price)
+                            .append("\"\n  amount: \"0.015\"\n  type: ").append(type)
+                            .append("\n  emitted_at: ").append(emittedAt[slot]).append('\n');
+                }
+            }
+            if (spec.format() == Format.JSON) out.append(']');
+            return out.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        private record Snapshot(String etag, byte[] body) {}
+    }
+}
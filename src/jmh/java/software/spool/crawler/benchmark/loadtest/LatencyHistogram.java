@@ -0,0 +1,86 @@
+package software.spool.crawler.benchmark.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear latency histogram with a relative error of about 3%,
+ * from one microsecond to well over an hour.
+ *
+ * <p>
+ * Each power of two of nanoseconds is split into 32 linear sub-buckets, so
+ * recording is a couple of bit operations and one atomic increment.
+ * </p>
+ */
+final class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MIN_EXPONENT = 10;
+    private static final int EXPONENTS = 33;
+
+    private final AtomicLongArray counts = new AtomicLongArray(EXPONENTS * SUB_BUCKETS);
+
+    void record(long nanos) {
+        counts.incrementAndGet(indexOf(Math.max(0, nanos)));
+    }
+
+    long count() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) total += counts.get(i);
+        return total;
+    }
+
+    /**
+     * @return the upper bound of the bucket holding the given percentile, in
+     * nanoseconds, or {@code 0} when nothing was recorded
+     */
+    long percentile(double percentile) {
+        long total = count();
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= Math.max(1, rank)) return upperBoundOf(i);
+        }
+        return upperBoundOf(counts.length() - 1);
+    }
+
+    String summary(TimeUnit unit) {
+        return String.format("p50=%s p90=%s p99=%s p99.9=%s max=%s (%d samples)",
+                format(percentile(50), unit), format(percentile(90), unit),
+                format(percentile(99), unit), format(percentile(99.9), unit),
+                format(percentile(100), unit), count());
+    }
+
+    private static String format(long nanos, TimeUnit unit) {
+        return String.format("%.1f%s", nanos / (double) unit.toNanos(1), suffix(unit));
+    }
+
+    private static String suffix(TimeUnit unit) {
+        return switch (unit) {
+            case NANOSECONDS -> "ns";
+            case MICROSECONDS -> "us";
+            case MILLISECONDS -> "ms";
+            default -> "s";
+        };
+    }
+
+    private static int indexOf(long nanos) {
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos | 1);
+        if (exponent < MIN_EXPONENT) return (int) (nanos >>> (MIN_EXPONENT - SUB_BITS));
+        int bucket = exponent - MIN_EXPONENT + 1;
+        if (bucket >= EXPONENTS) return EXPONENTS * SUB_BUCKETS - 1;
+        int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return bucket * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBoundOf(int index) {
+        int bucket = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (bucket == 0) return (long) (sub + 1) << (MIN_EXPONENT - SUB_BITS);
+        int exponent = bucket + MIN_EXPONENT - 1;
+        long base = 1L << exponent;
+        return base + ((long) (sub + 1) << (exponent - SUB_BITS));
+    }
+}
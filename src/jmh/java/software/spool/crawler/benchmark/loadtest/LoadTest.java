@@ -0,0 +1,261 @@
+package software.spool.crawler.benchmark.loadtest;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import software.spool.core.adapter.memory.InMemoryEventBroker;
+import software.spool.core.utils.polling.CancellationToken;
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.builder.CrawlerBuilderFactory;
+import software.spool.crawler.api.builder.PollingCrawlerBuilder;
+import software.spool.crawler.api.port.InboxWriter;
+import software.spool.crawler.api.strategy.CycleOutcome;
+import software.spool.crawler.api.strategy.PollingStrategy;
+import software.spool.crawler.api.utils.CrawlerPorts;
+import software.spool.crawler.api.utils.StandardNormalizer;
+import software.spool.crawler.internal.adapter.http.HTTPPollSource;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * End-to-end load test: N {@link HTTPPollSource} crawlers poll feeds served
+ * by a local {@link FeedStubServer} and store into an in-memory inbox, on the
+ * same strategies and capture pipeline the builder wires in production.
+ *
+ * <pre>{@code
+ * mvn -Pbenchmark compile exec:exec -Dbenchmark.main=software.spool.crawler.benchmark.loadtest.LoadTest \
+ *     -Dbenchmark="--sources 16 --records 2000 --change-rate 0.1 --latency-ms 20 --format mixed --duration-s 60"
+ * }</pre>
+ *
+ * <p>
+ * Options (defaults in brackets): {@code --sources} [8], {@code --records}
+ * per feed response [1000], {@code --latency-ms} added by the server [10],
+ * {@code --change-rate} share of each feed replaced per request [0.1],
+ * {@code --format} {@code json}, {@code yaml} or {@code mixed} [json],
+ * {@code --interval-ms} between polls of one source [1000],
+ * {@code --parallelism} record workers per source [1],
+ * {@code --workers} poll threads [sources], {@code --warmup-s} [10] and
+ * {@code --duration-s} [60].
+ * </p>
+ *
+ * <p>
+ * After the warm-up every counter is reset, then the report gives new records
+ * stored per second, the latency from the moment the server created a record
+ * to the moment the inbox stored it (so it includes waiting for the next
+ * poll), poll cycles by outcome, the peak heap usage and GC pauses. Run with
+ * the JVM options under evaluation, e.g.
+ * {@code -Dbenchmark.jvmArgs="-Xmx512m -XX:+UseZGC"}.
+ * </p>
+ */
+public final class LoadTest {
+    private static final String EMITTED_AT = "\"emitted_at\":";
+
+    private final Map<String, String> options;
+    private final Set<String> inbox = ConcurrentHashMap.newKeySet();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder stored = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder routedErrors = new LongAdder();
+    private final Map<CycleOutcome, LongAdder> cycles = new EnumMap<>(CycleOutcome.class);
+    private final LatencyHistogram cycleDuration = new LatencyHistogram();
+    private final AtomicLong gcCount = new AtomicLong();
+    private final AtomicLong gcPauseMillis = new AtomicLong();
+    private final AtomicLong gcMaxPauseMillis = new AtomicLong();
+    private volatile boolean measuring;
+
+    private LoadTest(Map<String, String> options) {
+        this.options = options;
+        for (CycleOutcome outcome : CycleOutcome.values()) cycles.put(outcome, new LongAdder());
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadTest(parse(args)).run();
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        int sources = intOption("sources", 8);
+        int records = intOption("records", 1000);
+        Duration latencyMs = Duration.ofMillis(intOption("latency-ms", 10));
+        double changeRate = Double.parseDouble(options.getOrDefault("change-rate", "0.1"));
+        String format = options.getOrDefault("format", "json");
+        long intervalMs = intOption("interval-ms", 1000);
+        int workers = intOption("workers", sources);
+        Duration warmup = Duration.ofSeconds(intOption("warmup-s", 10));
+        Duration duration = Duration.ofSeconds(intOption("duration-s", 60));
+
+        listenToGc();
+        CrawlerPorts ports = CrawlerPorts.builder().inbox(inbox()).bus(new InMemoryEventBroker()).build();
+        ErrorRouter errorRouter = new ErrorRouter().orElse((e, cause) -> routedErrors.increment());
+        CancellationToken token = CancellationToken.create();
+        ScheduledExecutorService pollers = Executors.newScheduledThreadPool(workers);
+
+        try (FeedStubServer server = new FeedStubServer(Math.max(4, sources))) {
+            List<PollingStrategy> strategies = new ArrayList<>(sources);
+            for (int i = 0; i < sources; i++) {
+                FeedStubServer.Format feedFormat = switch (format) {
+                    case "yaml" -> FeedStubServer.Format.YAML;
+                    case "mixed" -> i % 2 == 0 ? FeedStubServer.Format.JSON : FeedStubServer.Format.YAML;
+                    default -> FeedStubServer.Format.JSON;
+                };
+                String sourceId = "feed-" + i;
+                String url = server.register(new FeedStubServer.FeedSpec(sourceId, feedFormat, records,
+                        latencyMs, changeRate));
+                strategies.add(builder(new HTTPPollSource(url, sourceId), ports, errorRouter)
+                        .strategyWith(new StandardNormalizer.Builder().valueOf(
+                                feedFormat == FeedStubServer.Format.JSON
+                                        ? StandardNormalizer.Format.JSON_ARRAY
+                                        : StandardNormalizer.Format.YAML_ARRAY)));
+            }
+
+            for (int i = 0; i < strategies.size(); i++) {
+                PollingStrategy strategy = strategies.get(i);
+                pollers.scheduleAtFixedRate(() -> poll(strategy, token),
+                        intervalMs * i / strategies.size(), intervalMs, TimeUnit.MILLISECONDS);
+            }
+
+            System.out.printf("%d sources x %d records, %s, change rate %.2f, server latency %d ms, "
+                            + "interval %d ms, %d poll threads%n", sources, records, format, changeRate,
+                    latencyMs.toMillis(), intervalMs, workers);
+            System.out.printf("warming up for %ds...%n", warmup.toSeconds());
+            Thread.sleep(warmup.toMillis());
+            resetCounters();
+            long start = System.nanoTime();
+            Thread.sleep(duration.toMillis());
+            measuring = false;
+            long elapsed = System.nanoTime() - start;
+            token.cancel();
+            pollers.shutdownNow();
+            pollers.awaitTermination(10, TimeUnit.SECONDS);
+            strategies.forEach(PollingStrategy::close);
+            report(elapsed);
+        }
+    }
+
+    private PollingCrawlerBuilder<String> builder(HTTPPollSource source, CrawlerPorts ports, ErrorRouter errorRouter) {
+        PollingCrawlerBuilder<String> builder = CrawlerBuilderFactory.poll(source)
+                .ports(ports)
+                .withErrorRouter(errorRouter);
+        int parallelism = intOption("parallelism", 1);
+        return parallelism > 1 ? builder.parallelism(parallelism) : builder;
+    }
+
+    private InboxWriter inbox() {
+        return envelope -> {
+            if (!inbox.add(envelope.idempotencyKey().value())) {
+                if (measuring) duplicates.increment();
+                return null;
+            }
+            if (measuring) {
+                stored.increment();
+                long emittedAt = emittedAt(envelope.payload());
+                if (emittedAt != 0) latency.record(System.nanoTime() - emittedAt);
+            }
+            return envelope.idempotencyKey();
+        };
+    }
+
+    private void poll(PollingStrategy strategy, CancellationToken token) {
+        long start = System.nanoTime();
+        CycleOutcome outcome = strategy.runOnce(token);
+        if (!measuring) return;
+        cycles.get(outcome).increment();
+        if (outcome != CycleOutcome.SKIPPED) cycleDuration.record(System.nanoTime() - start);
+    }
+
+    private static long emittedAt(String payload) {
+        int at = payload.indexOf(EMITTED_AT);
+        if (at < 0) return 0;
+        long value = 0;
+        for (int i = at + EMITTED_AT.length(); i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if (c < '0' || c > '9') break;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private void resetCounters() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        gcCount.set(0);
+        gcPauseMillis.set(0);
+        gcMaxPauseMillis.set(0);
+        measuring = true;
+    }
+
+    private void listenToGc() {
+        NotificationListener listener = (notification, handback) -> {
+            if (!measuring || !notification.getType()
+                    .equals(GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION)) return;
+            GarbageCollectionNotificationInfo info =
+                    GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+            // Concurrent cycles of ZGC and Shenandoah report their wall time, not a pause.
+            if (info.getGcName().contains("Cycles")) return;
+            long pause = info.getGcInfo().getDuration();
+            gcCount.incrementAndGet();
+            gcPauseMillis.addAndGet(pause);
+            gcMaxPauseMillis.accumulateAndGet(pause, Math::max);
+        };
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            if (gc instanceof NotificationEmitter emitter) emitter.addNotificationListener(listener, null, null);
+    }
+
+    private void report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        long heapPeak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP) heapPeak += pool.getPeakUsage().getUsed();
+        long heapMax = Runtime.getRuntime().maxMemory();
+
+        System.out.printf("%n== results over %.1fs ==%n", seconds);
+        System.out.printf("records stored      %,d (%,.0f records/s)%n", stored.sum(), stored.sum() / seconds);
+        System.out.printf("duplicates skipped  %,d%n", duplicates.sum());
+        System.out.printf("routed errors       %,d (duplicates included)%n", routedErrors.sum());
+        System.out.printf("poll-to-inbox       %s%n", latency.summary(TimeUnit.MILLISECONDS));
+        System.out.printf("poll cycle          %s%n", cycleDuration.summary(TimeUnit.MILLISECONDS));
+        System.out.printf("cycles              %s%n", cycleCounts());
+        System.out.printf("heap peak           %,d MB of %,d MB max%n", heapPeak >> 20, heapMax >> 20);
+        System.out.printf("gc                  %,d pauses, %,d ms total, %,d ms max%n",
+                gcCount.get(), gcPauseMillis.get(), gcMaxPauseMillis.get());
+    }
+
+    private String cycleCounts() {
+        StringBuilder out = new StringBuilder();
+        cycles.forEach((outcome, count) -> out.append(outcome.name().toLowerCase()).append('=')
+                .append(count.sum()).append(' '));
+        return out.toString().trim();
+    }
+
+    private int intOption(String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length)
+                throw new IllegalArgumentException("Expected --name value pairs, got: " + args[i]);
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -10,9 +10,19 @@ import software.spool.crawler.api.strategy.CrawlerStrategy;
 
 import java.util.Objects;
 
-public class Crawler implements SpoolModule {
+/**
+ * {@link SpoolModule} running one {@link CrawlerStrategy}.
+ *
+ * <p>
+ * {@link #stop} cancels the running execution and can be followed by another
+ * {@link #start}. {@link #close()} also releases the threads and files held by
+ * the strategy; a closed crawler cannot be started again.
+ * </p>
+ */
+public class Crawler implements SpoolModule, AutoCloseable {
     private final CrawlerStrategy strategy;
     private volatile CancellationToken token;
+    private volatile boolean closed;
     private final ErrorRouter errorRouter;
     private final ModuleHeartBeat heartBeat;
 
@@ -27,6 +37,7 @@ public class Crawler implements SpoolModule {
     public void start(SpoolNode.StartPermit permit) {
         if (token.isActive()) return;
         Objects.requireNonNull(permit);
+        if (closed) throw new IllegalStateException("Crawler was closed");
         token = CancellationToken.create();
         try {
             heartBeat.start();
@@ -38,6 +49,21 @@ public class Crawler implements SpoolModule {
     public void stop(SpoolNode.StartPermit permit) {
         if (!token.isActive()) return;
         Objects.requireNonNull(permit);
+        halt();
+    }
+
+    /**
+     * Stops the crawler if it is running and closes its strategy.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        if (token.isActive()) halt();
+        closed = true;
+        strategy.close();
+    }
+
+    private void halt() {
         token.cancel();
         heartBeat.stop();
         token = CancellationToken.NOOP;
@@ -0,0 +1,266 @@
+package software.spool.crawler.api;
+
+import software.spool.core.model.spool.SpoolModule;
+import software.spool.core.model.spool.SpoolNode;
+import software.spool.core.port.health.ModuleHealthPayload;
+import software.spool.core.port.watchdog.ModuleHeartBeat;
+import software.spool.core.utils.polling.CancellationToken;
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.builder.PollingCrawlerBuilder;
+import software.spool.crawler.api.port.PayloadNormalizer;
+import software.spool.crawler.api.strategy.CycleOutcome;
+import software.spool.crawler.api.strategy.PollingStrategy;
+import software.spool.crawler.api.utils.AdaptiveSchedule;
+import software.spool.crawler.api.utils.CrawlerErrorRouter;
+import software.spool.crawler.internal.utils.WorkerThreads;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link SpoolModule} that hosts many poll sources in a single module.
+ *
+ * <p>
+ * All sources share one timer thread that fires their schedules and one
+ * bounded work-stealing pool that runs their poll cycles, instead of a
+ * scheduler and module per source. A source whose previous cycle is still
+ * running skips its tick. Health is tracked per source; poll metrics are
+ * recorded by each strategy. A stopped crawler can be started again;
+ * {@link #close()} also closes every source's strategy, after which it
+ * cannot.
+ * </p>
+ *
+ * <pre>{@code
+ * MultiSourceCrawler crawler = CrawlerBuilderFactory.multiSource()
+ *         .workers(16)
+ *         .register(CrawlerBuilderFactory.poll(sourceA).ports(ports), JSON_ARRAY.pipelineWith(rules, ""), Duration.ofMinutes(1))
+ *         .register(CrawlerBuilderFactory.poll(sourceB).ports(ports), normalizerB, Duration.ofSeconds(30))
+ *         .build();
+ * }</pre>
+ */
+public class MultiSourceCrawler implements SpoolModule, AutoCloseable {
+    private static final int UNHEALTHY_AFTER_FAILURES = 3;
+
+    private final List<Registration> registrations;
+    private final int workers;
+    private final ErrorRouter errorRouter;
+    private final ModuleHeartBeat heartBeat;
+    private volatile CancellationToken token;
+    private boolean closed;
+    private ScheduledExecutorService timer;
+    private ForkJoinPool pool;
+
+    private MultiSourceCrawler(Builder builder) {
+        this.registrations = List.copyOf(builder.registrations);
+        this.workers = builder.workers;
+        this.errorRouter = builder.errorRouter;
+        this.heartBeat = builder.heartBeat;
+        this.token = CancellationToken.NOOP;
+    }
+
+    public static Builder builder(ModuleHeartBeat heartBeat) {
+        return new Builder(heartBeat);
+    }
+
+    @Override
+    public synchronized void start(SpoolNode.StartPermit permit) {
+        if (token.isActive()) return;
+        Objects.requireNonNull(permit);
+        if (closed) throw new IllegalStateException("Crawler was closed");
+        token = CancellationToken.create();
+        timer = Executors.newSingleThreadScheduledExecutor(WorkerThreads.platform("spool-crawler-timer"));
+        pool = new ForkJoinPool(workers);
+        try {
+            heartBeat.start();
+            for (Registration registration : registrations) {
+                if (registration.adaptive)
+                    timer.schedule(() -> dispatch(registration),
+                            registration.initialDelayMillis(), TimeUnit.MILLISECONDS);
+                else
+                    timer.scheduleAtFixedRate(() -> dispatch(registration),
+                            registration.initialDelayMillis(), registration.interval.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (Exception e) { errorRouter.dispatch(e); }
+    }
+
+    @Override
+    public synchronized void stop(SpoolNode.StartPermit permit) {
+        if (!token.isActive()) return;
+        Objects.requireNonNull(permit);
+        halt();
+    }
+
+    /**
+     * Stops the crawler if it is running and closes the strategy of every
+     * source.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        if (token.isActive()) halt();
+        closed = true;
+        registrations.forEach(r -> r.strategy.close());
+    }
+
+    private void halt() {
+        token.cancel();
+        timer.shutdownNow();
+        pool.shutdown();
+        heartBeat.stop();
+        token = CancellationToken.NOOP;
+    }
+
+    @Override
+    public ModuleHealthPayload checkHealth() {
+        String moduleId = heartBeat.identity().moduleId();
+        boolean failing = registrations.stream()
+                .anyMatch(r -> r.consecutiveFailures >= UNHEALTHY_AFTER_FAILURES);
+        return token.isActive() && !failing
+                ? ModuleHealthPayload.healthy(moduleId)
+                : ModuleHealthPayload.degraded(moduleId, null);
+    }
+
+    /**
+     * Returns a snapshot of the health of every registered source, keyed by
+     * source id.
+     */
+    public Map<String, SourceHealth> sourceHealth() {
+        Map<String, SourceHealth> health = new LinkedHashMap<>();
+        registrations.forEach(r -> health.put(r.strategy.sourceId(), r.snapshot()));
+        return health;
+    }
+
+    private void dispatch(Registration registration) {
+        CancellationToken current = token;
+        if (!current.isActive() || !registration.inFlight.compareAndSet(false, true)) return;
+        try {
+            pool.execute(() -> run(registration, current));
+        } catch (RejectedExecutionException e) {
+            registration.inFlight.set(false);
+        }
+    }
+
+    private void run(Registration registration, CancellationToken current) {
+        try {
+            registration.record(registration.strategy.runOnce(current));
+        } catch (Exception e) {
+            registration.record(CycleOutcome.FAILED);
+            errorRouter.dispatch(e);
+        } finally {
+            registration.inFlight.set(false);
+            if (registration.adaptive) reschedule(registration, current);
+        }
+    }
+
+    private void reschedule(Registration registration, CancellationToken current) {
+        if (!current.isActive()) return;
+        try {
+            timer.schedule(() -> dispatch(registration),
+                    registration.strategy.nextInterval().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // stopped while the cycle was running
+        }
+    }
+
+    /**
+     * Point-in-time health of one source.
+     *
+     * @param sourceId            the source identifier
+     * @param lastOutcome         outcome of the most recent cycle, or {@code null} before the first one
+     * @param lastSuccess         end of the most recent cycle that was neither failed nor partial, or {@code null}
+     * @param consecutiveFailures number of failed or partial cycles since the last successful one
+     */
+    public record SourceHealth(String sourceId, CycleOutcome lastOutcome, Instant lastSuccess, int consecutiveFailures) {}
+
+    private static final class Registration {
+        private final PollingStrategy strategy;
+        private final Duration interval;
+        private final boolean adaptive;
+        private final AtomicBoolean inFlight;
+        private volatile CycleOutcome lastOutcome;
+        private volatile Instant lastSuccess;
+        private volatile int consecutiveFailures;
+
+        private Registration(PollingStrategy strategy, Duration interval, boolean adaptive) {
+            this.strategy = strategy;
+            this.interval = interval;
+            this.adaptive = adaptive;
+            this.inFlight = new AtomicBoolean();
+        }
+
+        private long initialDelayMillis() {
+            return Math.floorMod(strategy.sourceId().hashCode(), Math.max(1, interval.toMillis()));
+        }
+
+        private void record(CycleOutcome outcome) {
+            lastOutcome = outcome;
+            if (outcome == CycleOutcome.FAILED || outcome == CycleOutcome.PARTIAL) {
+                consecutiveFailures++;
+            } else {
+                consecutiveFailures = 0;
+                lastSuccess = Instant.now();
+            }
+        }
+
+        private SourceHealth snapshot() {
+            return new SourceHealth(strategy.sourceId(), lastOutcome, lastSuccess, consecutiveFailures);
+        }
+    }
+
+    /**
+     * Fluent builder for {@link MultiSourceCrawler}.
+     */
+    public static class Builder {
+        private final ModuleHeartBeat heartBeat;
+        private final List<Registration> registrations;
+        private int workers;
+        private ErrorRouter errorRouter;
+
+        private Builder(ModuleHeartBeat heartBeat) {
+            this.heartBeat = Objects.requireNonNull(heartBeat);
+            this.registrations = new ArrayList<>();
+            this.workers = Runtime.getRuntime().availableProcessors();
+            this.errorRouter = CrawlerErrorRouter.defaults(null);
+        }
+
+        /** Size of the shared work-stealing pool that runs poll cycles. */
+        public Builder workers(int workers) {
+            if (workers < 1) throw new IllegalArgumentException("workers must be at least 1");
+            this.workers = workers;
+            return this;
+        }
+
+        public Builder withErrorRouter(ErrorRouter errorRouter) {
+            this.errorRouter = Objects.requireNonNull(errorRouter);
+            return this;
+        }
+
+        /**
+         * Registers a source with its own normalizer and polling interval. The
+         * builder's own schedule is ignored in favour of {@code every}.
+         */
+        public Builder register(PollingCrawlerBuilder<?> source, PayloadNormalizer normalizer, Duration every) {
+            if (every.isZero() || every.isNegative())
+                throw new IllegalArgumentException("Polling interval must be positive");
+            registrations.add(new Registration(source.strategyWith(normalizer), every, false));
+            return this;
+        }
+
+        /**
+         * Registers a source polled on an {@link AdaptiveSchedule}; each cycle
+         * is scheduled once the previous one has finished.
+         */
+        public Builder register(PollingCrawlerBuilder<?> source, PayloadNormalizer normalizer, AdaptiveSchedule schedule) {
+            registrations.add(new Registration(source.schedule(schedule).strategyWith(normalizer),
+                    schedule.initial(), true));
+            return this;
+        }
+
+        public MultiSourceCrawler build() {
+            return new MultiSourceCrawler(this);
+        }
+    }
+}
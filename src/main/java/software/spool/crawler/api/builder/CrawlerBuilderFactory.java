@@ -4,6 +4,7 @@ import software.spool.core.adapter.watchdog.HttpWatchdogClient;
 import software.spool.core.model.watchdog.ModuleIdentity;
 import software.spool.core.port.watchdog.ModuleHeartBeat;
 import software.spool.core.utils.polling.PollingHeartbeat;
+import software.spool.crawler.api.MultiSourceCrawler;
 import software.spool.crawler.api.port.source.PollSource;
 
 import java.util.Objects;
@@ -15,6 +16,10 @@ public final class CrawlerBuilderFactory {
         return new Configuration().poll(source);
     }
 
+    public static MultiSourceCrawler.Builder multiSource() {
+        return new Configuration().multiSource();
+    }
+
     public static Configuration watchdog(String url, String moduleId) {
         return new Configuration(url, moduleId);
     }
@@ -35,6 +40,10 @@ public final class CrawlerBuilderFactory {
         public <R> PollingCrawlerBuilder<R> poll(PollSource<R> source) {
             return new PollingCrawlerBuilder<>(source, buildHeartbeat(watchdogUrl, moduleId));
         }
+
+        public MultiSourceCrawler.Builder multiSource() {
+            return MultiSourceCrawler.builder(buildHeartbeat(watchdogUrl, moduleId));
+        }
     }
 
     private static ModuleHeartBeat buildHeartbeat(String watchdogUrl, String moduleId) {
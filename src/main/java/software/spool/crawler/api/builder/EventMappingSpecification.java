@@ -7,17 +7,20 @@ import software.spool.core.port.bus.EventPublisher;
 import software.spool.core.port.serde.NamingConvention;
 import software.spool.core.port.serde.PayloadDeserializer;
 import software.spool.core.utils.serialization.DomainEventMapping;
+import software.spool.crawler.api.utils.Discriminator;
 import software.spool.crawler.internal.utils.DomainEventEmitter;
 import software.spool.crawler.internal.utils.TypedDomainMapping;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.BiFunction;
 
 public class EventMappingSpecification {
     private final NamingConvention namingConvention;
     private final List<TypedDomainMapping> domainMappings;
     private final List<String> defaultPartitionAttributes;
+    private boolean trialFallback;
 
     public EventMappingSpecification(NamingConvention namingConvention) {
         this.namingConvention = namingConvention;
@@ -47,6 +50,47 @@ public class EventMappingSpecification {
         return this;
     }
 
+    /**
+     * Maps records matching {@code discriminator} to {@code eventType}. Such
+     * records are routed directly to this mapping instead of being tried
+     * against every declared mapping.
+     */
+    public EventMappingSpecification addDomainEvent(Discriminator discriminator, Class<? extends Event> eventType, String... partitionAttributes) {
+        if (hasConflict())
+            throw new IllegalArgumentException("Only one can be used at the same time. Please, use addDomainEvent(...) or addPartitionAttributes(...) but not both.");
+        checkDiscriminator(discriminator);
+        domainMappings.add(new TypedDomainMapping(eventType,
+                DomainEventMapping.of(deserializerFor(eventType)),
+                List.of(partitionAttributes), discriminator));
+        return this;
+    }
+
+    public <D> EventMappingSpecification addDomainEvent(Discriminator discriminator, Class<D> dtoType, BiFunction<D, IdempotencyKey, Event> toEvent, String... partitionAttributes) {
+        if (hasConflict())
+            throw new IllegalArgumentException("Only one can be used at the same time. Please, use addDomainEvent(...) or addPartitionAttributes(...) but not both.");
+        checkDiscriminator(discriminator);
+        domainMappings.add(new TypedDomainMapping(dtoType,
+                DomainEventMapping.of(deserializerFor(dtoType), toEvent),
+                List.of(partitionAttributes), discriminator));
+        return this;
+    }
+
+    /**
+     * Tries every declared mapping in turn, including discriminated ones, for
+     * records whose discriminator matches no mapping. Without it such records
+     * are only tried against mappings declared without a discriminator.
+     */
+    public EventMappingSpecification fallbackToTrialMapping() {
+        this.trialFallback = true;
+        return this;
+    }
+
+    private void checkDiscriminator(Discriminator discriminator) {
+        Objects.requireNonNull(discriminator);
+        if (domainMappings.stream().anyMatch(m -> discriminator.equals(m.discriminator())))
+            throw new IllegalArgumentException("Discriminator already mapped: " + discriminator);
+    }
+
     public EventMappingSpecification addPartitionAttributes(String... attributes) {
         if (hasConflict())
             throw new IllegalArgumentException("Only one can be used at the same time. Please, use addDomainEvent(...) or addPartitionAttributes(...) but not both.");
@@ -59,7 +103,7 @@ public class EventMappingSpecification {
     }
 
     public DomainEventEmitter buildEmitter(EventPublisher bus) {
-        return new DomainEventEmitter(bus, domainMappings);
+        return new DomainEventEmitter(bus, domainMappings, trialFallback);
     }
 
     public List<String> partitionAttributes() {
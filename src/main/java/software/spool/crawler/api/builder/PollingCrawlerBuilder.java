@@ -5,7 +5,7 @@ import software.spool.core.adapter.otel.OpenTelemetryMetricsRegistry;
 import software.spool.core.pipeline.ObservedStep;
 import software.spool.core.pipeline.Pipeline;
 import software.spool.core.pipeline.PipelineContext;
-import software.spool.core.port.bus.Handler;
+import software.spool.core.pipeline.Step;
 import software.spool.core.port.metrics.MetricsRegistry;
 import software.spool.core.port.serde.EnrichmentRule;
 import software.spool.core.port.serde.NamingConvention;
@@ -13,20 +13,46 @@ import software.spool.core.port.watchdog.ModuleHeartBeat;
 import software.spool.core.utils.polling.PollingConfiguration;
 import software.spool.core.utils.routing.ErrorRouter;
 import software.spool.crawler.api.Crawler;
+import software.spool.crawler.api.MultiSourceCrawler;
+import software.spool.crawler.api.port.CheckpointStore;
+import software.spool.crawler.api.port.InboxWriter;
+import software.spool.crawler.api.port.PayloadNormalizer;
 import software.spool.crawler.api.port.source.PollSource;
+import software.spool.crawler.api.strategy.PollingStrategy;
+import software.spool.crawler.api.utils.AdaptiveSchedule;
 import software.spool.crawler.api.utils.CrawlerErrorRouter;
 import software.spool.crawler.api.utils.CrawlerPorts;
 import software.spool.crawler.api.utils.NormalizerFormat;
-import software.spool.crawler.internal.control.ItemCapturedHandler;
+import software.spool.crawler.api.utils.OverflowPolicy;
+import software.spool.crawler.internal.control.BatchingPayloadCapturedHandler;
+import software.spool.crawler.internal.control.BufferedCaptureHandler;
+import software.spool.crawler.internal.control.CaptureHandler;
+import software.spool.crawler.internal.control.MeteredCaptureHandler;
+import software.spool.crawler.internal.control.PartitionedCaptureHandler;
+import software.spool.crawler.internal.control.PartitionedExecutor;
 import software.spool.crawler.internal.control.PayloadCapturedHandler;
+import software.spool.crawler.internal.adapter.file.MappedIdempotencyIndex;
 import software.spool.crawler.internal.control.steps.*;
+import software.spool.crawler.internal.port.decorator.CachingInboxWriter;
+import software.spool.crawler.internal.port.decorator.MeteredInboxWriter;
 import software.spool.crawler.internal.port.decorator.SafePollSource;
-import software.spool.crawler.internal.strategy.PollingCrawlerStrategy;
+import software.spool.crawler.internal.strategy.AdaptiveInterval;
+import software.spool.crawler.internal.strategy.PayloadFingerprint;
+import software.spool.crawler.internal.strategy.PollingStrategies;
+import software.spool.crawler.internal.strategy.WatermarkCheckpoint;
+import software.spool.crawler.internal.utils.CrawlerMetrics;
+import software.spool.crawler.internal.utils.IdempotencyCache;
+import software.spool.crawler.internal.utils.IdempotencyIndex;
+import software.spool.crawler.internal.utils.PartitionKeyExtractor;
+import software.spool.crawler.internal.utils.WorkerThreads;
 import software.spool.crawler.internal.utils.factory.Normalizer;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 
 public class PollingCrawlerBuilder<I> {
     private final PollSource<I> source;
@@ -36,7 +62,25 @@ public class PollingCrawlerBuilder<I> {
     private String rootPath;
     private EventMappingSpecification eventMapping;
     private PollingConfiguration schedule;
+    private AdaptiveSchedule adaptiveSchedule;
     private ErrorRouter errorRouter;
+    private boolean skipUnchanged;
+    private int batchSize;
+    private Duration batchDelay;
+    private int parallelism;
+    private int virtualConcurrency;
+    private boolean pollOnVirtualThread;
+    private int bufferRecords;
+    private long bufferBytes;
+    private OverflowPolicy overflowPolicy;
+    private IdempotencyCache idempotencyCache;
+    private Path dedupeDirectory;
+    private long dedupeMaxFileBytes;
+    private Duration dedupeRetention;
+    private CheckpointStore checkpointStore;
+    private String watermarkField;
+    private MetricsRegistry registry;
+    private CrawlerMetrics metrics;
 
     public PollingCrawlerBuilder(PollSource<I> source, ModuleHeartBeat heartBeat) {
         this.source = SafePollSource.of(source);
@@ -67,6 +111,141 @@ public class PollingCrawlerBuilder<I> {
 
     public PollingCrawlerBuilder<I> schedule(PollingConfiguration config) {
         this.schedule = config;
+        this.adaptiveSchedule = null;
+        return this;
+    }
+
+    /**
+     * Polls on an interval that lengthens while the source produces nothing
+     * new and shortens when it does, within the bounds of {@code schedule}.
+     * The interval in use is reported as {@code spool.crawler.poll.interval}.
+     */
+    public PollingCrawlerBuilder<I> schedule(AdaptiveSchedule schedule) {
+        this.adaptiveSchedule = Objects.requireNonNull(schedule);
+        return this;
+    }
+
+    /**
+     * Skips a whole poll cycle when the raw poll result is byte-identical to
+     * the last successfully processed one. Applies to {@code String} and
+     * {@code byte[]} payloads.
+     */
+    public PollingCrawlerBuilder<I> skipUnchanged() {
+        this.skipUnchanged = true;
+        return this;
+    }
+
+    /**
+     * Stores envelopes through {@code InboxWriter.receiveAll} in batches of at
+     * most {@code maxSize} records, flushing earlier when the oldest buffered
+     * record has waited {@code maxDelay} or the poll cycle ends. A zero
+     * {@code maxDelay} sets no time bound: batches are written when full or at
+     * the end of the cycle.
+     */
+    public PollingCrawlerBuilder<I> batchInbox(int maxSize, Duration maxDelay) {
+        if (maxSize < 1) throw new IllegalArgumentException("batch size must be at least 1");
+        if (maxDelay.isNegative()) throw new IllegalArgumentException("batch delay must not be negative");
+        this.batchSize = maxSize;
+        this.batchDelay = Objects.requireNonNull(maxDelay);
+        return this;
+    }
+
+    /**
+     * Handles records on {@code workers} threads. Records with the same
+     * partition key (the default partition attributes, or those of the domain
+     * mapping a record is routed to) keep their relative order, and a poll
+     * cycle completes only once every record has been handled.
+     */
+    public PollingCrawlerBuilder<I> parallelism(int workers) {
+        if (workers < 1) throw new IllegalArgumentException("parallelism must be at least 1");
+        this.parallelism = workers;
+        return this;
+    }
+
+    /**
+     * Handles records on virtual threads, at most {@code maxConcurrency} at a
+     * time, keeping per-partition order as {@link #parallelism(int)} does. On
+     * runtimes without virtual threads a bounded platform pool is used.
+     */
+    public PollingCrawlerBuilder<I> virtualThreads(int maxConcurrency) {
+        return virtualThreads(maxConcurrency, false);
+    }
+
+    /**
+     * Same as {@link #virtualThreads(int)}; when {@code includePoll} is set the
+     * poll cycle itself also runs on its own virtual thread, freeing the
+     * scheduler thread while the source blocks on I/O.
+     */
+    public PollingCrawlerBuilder<I> virtualThreads(int maxConcurrency, boolean includePoll) {
+        if (maxConcurrency < 1) throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        this.virtualConcurrency = maxConcurrency;
+        this.pollOnVirtualThread = includePoll;
+        return this;
+    }
+
+    /**
+     * Places a bounded queue between the normalizer and the capture pipeline,
+     * so a slow inbox does not stall the fetch and bursts are absorbed. The
+     * queue holds at most {@code maxRecords} records and {@code maxBytes} of
+     * payload; {@code policy} decides what happens when it is full.
+     */
+    public PollingCrawlerBuilder<I> buffer(int maxRecords, long maxBytes, OverflowPolicy policy) {
+        this.bufferRecords = maxRecords;
+        this.bufferBytes = maxBytes;
+        this.overflowPolicy = Objects.requireNonNull(policy);
+        return this;
+    }
+
+    /**
+     * Keeps the last {@code maxEntries} idempotency keys confirmed by the inbox
+     * in memory and drops records whose key is already known right after it is
+     * computed, before any event is published. Entries expire after
+     * {@code ttl}, or never when it is {@code null}; a failed inbox write
+     * evicts its key.
+     */
+    public PollingCrawlerBuilder<I> idempotencyCache(int maxEntries, Duration ttl) {
+        this.idempotencyCache = new IdempotencyCache(maxEntries, ttl);
+        return this;
+    }
+
+    /**
+     * Persists confirmed idempotency keys in a memory-mapped index file under
+     * {@code directory}, so known records are still dropped before the
+     * pipeline after a restart. The file never exceeds {@code maxFileBytes};
+     * keys older than {@code retention} (or {@code null} for no limit) and,
+     * if needed, the oldest keys are evicted when it fills up. Combined with
+     * {@link #idempotencyCache(int, Duration)} the in-memory cache is checked
+     * first. The file is opened when the strategy is built, once per built
+     * strategy, and pending writes are forced to disk when the crawler is
+     * closed.
+     */
+    public PollingCrawlerBuilder<I> dedupeIndex(Path directory, long maxFileBytes, Duration retention) {
+        MappedIdempotencyIndex.checkFileSize(maxFileBytes);
+        this.dedupeDirectory = Objects.requireNonNull(directory);
+        this.dedupeMaxFileBytes = maxFileBytes;
+        this.dedupeRetention = retention;
+        return this;
+    }
+
+    /**
+     * Persists the watermark of an
+     * {@link software.spool.crawler.api.port.source.IncrementalPollSource} in
+     * {@code store} after every cycle whose records all reached the inbox, so
+     * a restarted crawler resumes from it. Without a store the watermark is
+     * kept in memory.
+     */
+    public PollingCrawlerBuilder<I> checkpoints(CheckpointStore store) {
+        this.checkpointStore = Objects.requireNonNull(store);
+        return this;
+    }
+
+    /**
+     * Derives the watermark of an incremental source from the highest value
+     * of the record field at {@code jsonPointer} (e.g. {@code /id} or
+     * {@code /updated_at}) when the source does not supply one.
+     */
+    public PollingCrawlerBuilder<I> watermarkField(String jsonPointer) {
+        this.watermarkField = Objects.requireNonNull(jsonPointer);
         return this;
     }
 
@@ -76,47 +255,162 @@ public class PollingCrawlerBuilder<I> {
     }
 
     public <P, E, R> Crawler createWith(Normalizer<P, E, R> normalizer) {
+        return createWith((PayloadNormalizer) normalizer);
+    }
+
+    public Crawler createWith(PayloadNormalizer normalizer) {
+        return new Crawler(strategyWith(normalizer), getErrorRouter(), heartBeat);
+    }
+
+    /**
+     * Builds the polling strategy without wrapping it in its own
+     * {@link Crawler}, e.g. to register it in a {@link MultiSourceCrawler}.
+     */
+    public PollingStrategy strategyWith(PayloadNormalizer normalizer) {
         validateRequiredFields();
-        return new Crawler(initializeStrategy(normalizer, initHandler()), getErrorRouter(), heartBeat);
+        MappedIdempotencyIndex dedupeIndex = Objects.isNull(dedupeDirectory) ? null
+                : MappedIdempotencyIndex.open(dedupeDirectory, source.sourceId(), dedupeMaxFileBytes, dedupeRetention);
+        try {
+            CaptureHandler handler = initHandler(idempotencyIndex(dedupeIndex));
+            if (Objects.nonNull(dedupeIndex)) handler = CaptureHandler.closing(handler, dedupeIndex);
+            return initializeStrategy(normalizer, handler);
+        } catch (RuntimeException e) {
+            if (Objects.nonNull(dedupeIndex)) dedupeIndex.close();
+            throw e;
+        }
+    }
+
+    private PollingStrategy initializeStrategy(PayloadNormalizer normalizer, CaptureHandler handler) {
+        return PollingStrategies.of(source, normalizer, handler, schedule, getErrorRouter(),
+                initFingerprint(), initCycleExecutor(), metrics(),
+                Objects.isNull(adaptiveSchedule) ? null : new AdaptiveInterval(adaptiveSchedule),
+                WatermarkCheckpoint.of(source.sourceId(), checkpointStore, watermarkField));
     }
 
-    private <P, E, R> PollingCrawlerStrategy<I, P, E, R> initializeStrategy(Normalizer<P, E, R> normalizer, Handler<String> handler) {
-        return new PollingCrawlerStrategy<>(source, normalizer, handler, schedule, getErrorRouter());
+    private Executor initCycleExecutor() {
+        if (!pollOnVirtualThread) return Runnable::run;
+        String name = "spool-poll-" + source.sourceId();
+        ThreadFactory threads = Objects.requireNonNullElseGet(WorkerThreads.virtual(name),
+                () -> WorkerThreads.platform(name));
+        return task -> threads.newThread(task).start();
+    }
+
+    private PayloadFingerprint initFingerprint() {
+        if (!skipUnchanged) return PayloadFingerprint.disabled();
+        return PayloadFingerprint.of(source.sourceId(), registry()
+                .histogram("spool.crawler.poll.skipped.unchanged", "", "{poll}"));
     }
 
     private ErrorRouter getErrorRouter() {
         return Objects.requireNonNullElse(errorRouter, CrawlerErrorRouter.defaults(ports.bus()));
     }
 
-    private PayloadCapturedHandler initHandler() {
-        return new PayloadCapturedHandler(initializePipeline(), source.sourceId(), getErrorRouter());
+    private CaptureHandler initHandler(IdempotencyIndex index) {
+        CaptureHandler handler = batchSize > 0
+                ? initBatchingHandler(index)
+                : new PayloadCapturedHandler(initializePipeline(index), source.sourceId(), getErrorRouter());
+        boolean partitioned = parallelism > 1 || virtualConcurrency > 0;
+        if (!partitioned && bufferRecords == 0) return handler;
+        handler = MeteredCaptureHandler.handling(handler, metrics());
+        if (partitioned)
+            handler = new PartitionedCaptureHandler(handler,
+                    initKeyExtractor(), initExecutor(), getErrorRouter());
+        if (bufferRecords > 0)
+            handler = initBufferedHandler(handler);
+        return MeteredCaptureHandler.accepting(handler, metrics());
+    }
+
+    private CaptureHandler initBufferedHandler(CaptureHandler handler) {
+        return new BufferedCaptureHandler(handler, source.sourceId(), getErrorRouter(),
+                bufferRecords, bufferBytes, overflowPolicy,
+                registry().histogram("spool.crawler.buffer.depth", "", "{record}"),
+                registry().histogram("spool.crawler.buffer.blocked", "", "ms"),
+                registry().histogram("spool.crawler.buffer.dropped", "", "{record}"),
+                metrics());
+    }
+
+    private PartitionKeyExtractor initKeyExtractor() {
+        if (!eventMapping.partitionAttributes().isEmpty())
+            return new PartitionKeyExtractor(eventMapping.partitionAttributes());
+        return PartitionKeyExtractor.byMapping(eventMapping.buildEmitter(ports.bus()));
+    }
+
+    private PartitionedExecutor initExecutor() {
+        String name = "spool-crawler-" + source.sourceId();
+        if (virtualConcurrency == 0) return new PartitionedExecutor(name, parallelism, 1024);
+        ThreadFactory virtual = WorkerThreads.virtual(name);
+        return Objects.nonNull(virtual)
+                ? new PartitionedExecutor(virtual, virtualConcurrency, 64)
+                : new PartitionedExecutor(name, WorkerThreads.platformLimit(virtualConcurrency), 1024);
+    }
+
+    private CaptureHandler initBatchingHandler(IdempotencyIndex index) {
+        EnvelopeBatchStep batch = new EnvelopeBatchStep(inboxWriter(index),
+                Pipeline.<PipelineContext>start()
+                        .add(publishing("publish-stored", new PublishEnvelopeStoredStep(ports.bus()))),
+                getErrorRouter(), batchSize, batchDelay);
+        Pipeline<PipelineContext, PipelineContext> pipeline = capturePipeline(index)
+                .add(observed("build-envelope",
+                        new BuildEnvelopeStep(RecordSerializerFactory.record(), eventMapping.partitionAttributes())))
+                .add(observed("batch-envelope", batch));
+        return new BatchingPayloadCapturedHandler(pipeline, batch, source.sourceId(), getErrorRouter());
     }
 
-    private Pipeline<PipelineContext, PipelineContext> initializePipeline() {
-        return Pipeline.<PipelineContext>start()
-                .add(new ObservedStep<>("measure-size", new PayloadSizeMetricStep(buildHistogram())))
-                .add(new ObservedStep<>("build-captured", new BuildCapturedEventStep()))
-                .add(new ObservedStep<>("emit-domain-event",
-                        new PublishDomainEventStep(eventMapping.buildEmitter(ports.bus()))))
-                .add(new ObservedStep<>("publish-captured", new PublishCapturedEvent(ports.bus())))
-                .add(new ObservedStep<>("store-envelope",
-                        new BuildAndStoreEnvelopeStep(ports.inboxWriter(),
+    private Pipeline<PipelineContext, PipelineContext> initializePipeline(IdempotencyIndex index) {
+        return capturePipeline(index)
+                .add(observed("store-envelope",
+                        new BuildAndStoreEnvelopeStep(inboxWriter(index),
                                 RecordSerializerFactory.record(),
                                 eventMapping.partitionAttributes())))
-                .add(new ObservedStep<>("publish-stored", new PublishEnvelopeStoredStep(ports.bus())));
+                .add(publishing("publish-stored", new PublishEnvelopeStoredStep(ports.bus())));
+    }
+
+    private Pipeline<PipelineContext, PipelineContext> capturePipeline(IdempotencyIndex index) {
+        Pipeline<PipelineContext, PipelineContext> pipeline = Pipeline.<PipelineContext>start()
+                .add(observed("measure-size", new PayloadSizeMetricStep(buildHistogram())))
+                .add(observed("build-captured", new BuildCapturedEventStep()));
+        if (Objects.nonNull(index))
+            pipeline = pipeline.add(observed("skip-known-duplicate",
+                    new SkipKnownDuplicateStep(index, source.sourceId(), registry()
+                            .histogram("spool.crawler.idempotency.lookups", "", "{lookup}"))));
+        return pipeline
+                .add(observed("emit-domain-event",
+                        new PublishDomainEventStep(eventMapping.buildEmitter(ports.bus())
+                                .onPublishFailure(metrics().publishRejected("emit-domain-event")))))
+                .add(publishing("publish-captured", new PublishCapturedEvent(ports.bus())));
+    }
+
+    private Step<PipelineContext, PipelineContext> observed(String name, Step<PipelineContext, PipelineContext> step) {
+        return new ObservedStep<>(name, new TimedStep(step, metrics().step(name, false)));
+    }
+
+    private Step<PipelineContext, PipelineContext> publishing(String name, Step<PipelineContext, PipelineContext> step) {
+        return new ObservedStep<>(name, new TimedStep(step, metrics().step(name, true)));
+    }
+
+    private InboxWriter inboxWriter(IdempotencyIndex index) {
+        InboxWriter inbox = MeteredInboxWriter.of(ports.inboxWriter(), metrics());
+        return Objects.isNull(index) ? inbox : CachingInboxWriter.of(inbox, index);
+    }
+
+    private IdempotencyIndex idempotencyIndex(MappedIdempotencyIndex dedupeIndex) {
+        if (Objects.isNull(dedupeIndex)) return idempotencyCache;
+        if (Objects.isNull(idempotencyCache)) return dedupeIndex;
+        return IdempotencyIndex.tiered(idempotencyCache, dedupeIndex);
     }
 
     private MetricsRegistry.LongHistogramMetric buildHistogram() {
-        return new OpenTelemetryMetricsRegistry()
-                .histogram("spool.captured.payload.size", "", "By");
+        return registry().histogram("spool.captured.payload.size", "", "By");
+    }
+
+    private MetricsRegistry registry() {
+        if (Objects.isNull(registry)) registry = new OpenTelemetryMetricsRegistry();
+        return registry;
     }
 
-    private ItemCapturedHandler initializeHandler() {
-        return new ItemCapturedHandler(
-                source.sourceId(), ports,
-                eventMapping.buildEmitter(ports.bus()),
-                eventMapping.partitionAttributes(),
-                getErrorRouter());
+    private CrawlerMetrics metrics() {
+        if (Objects.isNull(metrics)) metrics = CrawlerMetrics.of(source.sourceId(), registry());
+        return metrics;
     }
 
     public <P, E, R> Crawler createWith(NormalizerFormat<P, E, R> format) {
@@ -0,0 +1,70 @@
+package software.spool.crawler.api.port;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.util.Objects;
+
+/**
+ * A normalized record in its serialized form, together with the JSON tree it
+ * was serialized from when the normalizer has one.
+ *
+ * <p>
+ * Capture steps that need structured access to the record (domain event
+ * routing, partition keys) use {@link #tree()}, which reuses the normalizer's
+ * tree or parses the payload once on first use, so a record is never parsed
+ * more than once per step chain.
+ * </p>
+ */
+public final class CapturedRecord {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String payload;
+    private volatile JsonNode tree;
+
+    private CapturedRecord(String payload, JsonNode tree) {
+        this.payload = Objects.requireNonNull(payload);
+        this.tree = tree;
+    }
+
+    public static CapturedRecord of(String payload) {
+        return new CapturedRecord(payload, null);
+    }
+
+    public static CapturedRecord of(String payload, JsonNode tree) {
+        return new CapturedRecord(payload, tree);
+    }
+
+    public String payload() {
+        return payload;
+    }
+
+    /**
+     * Returns the record as a JSON tree, parsing the payload if no tree is
+     * available yet.
+     *
+     * @return the tree, or a {@link MissingNode} if the payload is not JSON
+     */
+    public JsonNode tree() {
+        JsonNode current = tree;
+        if (current == null) tree = current = parse(payload);
+        return current;
+    }
+
+    /**
+     * Returns the tree only if it is already available, without parsing.
+     */
+    public JsonNode parsedTree() {
+        return tree;
+    }
+
+    private static JsonNode parse(String payload) {
+        try {
+            return Objects.requireNonNullElse(MAPPER.readTree(payload), MissingNode.getInstance());
+        } catch (JsonProcessingException e) {
+            return MissingNode.getInstance();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package software.spool.crawler.api.port;
+
+import software.spool.crawler.api.port.source.IncrementalPollSource;
+
+import java.util.Optional;
+
+/**
+ * Persists the last committed watermark of each
+ * {@link IncrementalPollSource}, so a restarted crawler resumes where it
+ * stopped instead of reading the whole source again.
+ */
+public interface CheckpointStore {
+    /**
+     * @return the last watermark committed for {@code sourceId}, or empty if
+     *         the source has never completed a cycle
+     */
+    Optional<String> load(String sourceId);
+
+    /**
+     * Durably records {@code watermark} as the position of {@code sourceId};
+     * it must survive a crash once this method returns.
+     */
+    void commit(String sourceId, String watermark);
+}
@@ -0,0 +1,29 @@
+package software.spool.crawler.api.port;
+
+import software.spool.core.model.vo.Envelope;
+import software.spool.core.model.vo.IdempotencyKey;
+
+/**
+ * Per-envelope outcome of {@link InboxWriter#receiveAll}.
+ *
+ * @param envelope    the envelope the outcome refers to
+ * @param status      whether it was stored, rejected as a duplicate or failed
+ * @param receivedKey the key assigned by the inbox; only set when stored
+ * @param error       the failure cause; only set when failed
+ */
+public record InboxWriteResult(Envelope envelope, Status status, IdempotencyKey receivedKey, Exception error) {
+
+    public enum Status { STORED, DUPLICATE, FAILED }
+
+    public static InboxWriteResult stored(Envelope envelope, IdempotencyKey receivedKey) {
+        return new InboxWriteResult(envelope, Status.STORED, receivedKey, null);
+    }
+
+    public static InboxWriteResult duplicate(Envelope envelope) {
+        return new InboxWriteResult(envelope, Status.DUPLICATE, null, null);
+    }
+
+    public static InboxWriteResult failed(Envelope envelope, Exception error) {
+        return new InboxWriteResult(envelope, Status.FAILED, null, error);
+    }
+}
@@ -4,6 +4,10 @@ import software.spool.core.exception.*;
 import software.spool.core.model.vo.IdempotencyKey;
 import software.spool.core.model.vo.Envelope;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 public interface InboxWriter {
     /**
      * Stores a serialized payload in the inbox, using the provided idempotency key
@@ -14,4 +18,34 @@ public interface InboxWriter {
      * @throws DuplicateEventException if the entry was duplicated
      */
     IdempotencyKey receive(Envelope envelope) throws InboxWriteException, DuplicateEventException;
+
+    /**
+     * Stores a batch of envelopes and reports the outcome of each one.
+     *
+     * <p>
+     * The default implementation adapts single-record writers by calling
+     * {@link #receive(Envelope)} once per envelope. Writers backed by storage
+     * with a bulk API should override it to save round trips. A batch may be
+     * partly accepted: every envelope gets its own {@link InboxWriteResult}.
+     * </p>
+     *
+     * @param envelopes the envelopes to store, in order
+     * @return one result per envelope, in the same order
+     */
+    default List<InboxWriteResult> receiveAll(List<Envelope> envelopes) {
+        List<InboxWriteResult> results = new ArrayList<>(envelopes.size());
+        for (Envelope envelope : envelopes) {
+            try {
+                IdempotencyKey key = receive(envelope);
+                results.add(Objects.isNull(key)
+                        ? InboxWriteResult.duplicate(envelope)
+                        : InboxWriteResult.stored(envelope, key));
+            } catch (DuplicateEventException e) {
+                results.add(InboxWriteResult.duplicate(envelope));
+            } catch (Exception e) {
+                results.add(InboxWriteResult.failed(envelope, e));
+            }
+        }
+        return results;
+    }
 }
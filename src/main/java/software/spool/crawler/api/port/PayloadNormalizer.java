@@ -0,0 +1,48 @@
+package software.spool.crawler.api.port;
+
+import software.spool.core.exception.SpoolException;
+import software.spool.crawler.internal.utils.factory.Normalizer;
+import software.spool.crawler.internal.utils.factory.NormalizerFactory;
+
+import java.util.stream.Stream;
+
+/**
+ * SPI that turns the raw output of a poll into a stream of serialized records.
+ *
+ * <p>
+ * The tree-based {@link Normalizer} parses the whole payload before splitting
+ * it, while streaming implementations such as
+ * {@link NormalizerFactory#jsonArrayStream} read records incrementally. Both
+ * can be handed to the crawler builder interchangeably.
+ * </p>
+ *
+ * <p>
+ * The returned stream may hold an open parser or connection; callers must
+ * close it once consumed.
+ * </p>
+ */
+public interface PayloadNormalizer {
+    /**
+     * Normalizes the raw poll result into serialized records.
+     *
+     * @param poll the raw payload returned by the source; must not be {@code null}
+     * @param <I>  the raw payload type
+     * @return a lazily evaluated stream of serialized records
+     * @throws SpoolException if the payload cannot be parsed or split
+     */
+    <I> Stream<String> transform(I poll) throws SpoolException;
+
+    /**
+     * Normalizes the raw poll result into records that keep their parsed form
+     * when the implementation has one, so downstream steps do not parse the
+     * serialized payload again. Defaults to wrapping {@link #transform}.
+     *
+     * @param poll the raw payload returned by the source; must not be {@code null}
+     * @param <I>  the raw payload type
+     * @return a lazily evaluated stream of records
+     * @throws SpoolException if the payload cannot be parsed or split
+     */
+    default <I> Stream<CapturedRecord> records(I poll) throws SpoolException {
+        return transform(poll).map(CapturedRecord::of);
+    }
+}
@@ -0,0 +1,22 @@
+package software.spool.crawler.api.port.source;
+
+/**
+ * Result of {@link IncrementalPollSource#pollSince(String)}.
+ *
+ * @param payload   the delta to normalize
+ * @param watermark the watermark to commit once the delta is stored, or
+ *                  {@code null} to derive it from the records through
+ *                  {@code PollingCrawlerBuilder.watermarkField}
+ * @param <R>       the raw type of the payload
+ */
+public record IncrementalPoll<R>(R payload, String watermark) {
+
+    public static <R> IncrementalPoll<R> of(R payload, String watermark) {
+        return new IncrementalPoll<>(payload, watermark);
+    }
+
+    /** A delta whose watermark is derived from its records. */
+    public static <R> IncrementalPoll<R> of(R payload) {
+        return new IncrementalPoll<>(payload, null);
+    }
+}
@@ -0,0 +1,49 @@
+package software.spool.crawler.api.port.source;
+
+import software.spool.core.exception.SpoolException;
+import software.spool.crawler.api.port.CheckpointStore;
+
+/**
+ * A {@link PollSource} that fetches only what changed since a watermark.
+ *
+ * <p>
+ * Before each cycle the crawler passes the last committed watermark (a cursor,
+ * max id, timestamp or page token, as an opaque string) to
+ * {@link #pollSince(String)}. Once every record of the cycle has reached the
+ * inbox, the watermark of the result is committed to the configured
+ * {@link CheckpointStore}; a cycle with any failure commits nothing, so the
+ * next poll reads the same delta again and the inbox drops what it already
+ * holds.
+ * </p>
+ *
+ * <pre>{@code
+ * public IncrementalPoll<ResultSet> pollSince(String lastId) {
+ *     PreparedStatement query = connection.prepareStatement(
+ *             "SELECT id, name, total FROM orders WHERE id > ? ORDER BY id");
+ *     query.setLong(1, lastId == null ? 0 : Long.parseLong(lastId));
+ *     return IncrementalPoll.of(query.executeQuery());
+ * }
+ * }</pre>
+ *
+ * @param <R> the raw type of the payload
+ */
+public interface IncrementalPollSource<R> extends PollSource<R> {
+    /**
+     * Fetches the records added or changed after {@code watermark}.
+     *
+     * @param watermark the last committed watermark, or {@code null} on the
+     *                  first poll of a source
+     * @return the delta and its watermark, or {@code null} if nothing changed
+     * @throws SpoolException if the payload could not be retrieved
+     */
+    IncrementalPoll<R> pollSince(String watermark) throws SpoolException;
+
+    /**
+     * Polls from the beginning, as {@code pollSince(null)}.
+     */
+    @Override
+    default R poll() throws SpoolException {
+        IncrementalPoll<R> result = pollSince(null);
+        return result == null ? null : result.payload();
+    }
+}
@@ -31,7 +31,14 @@ public interface PollSource<R> extends Source {
      * (e.g. fetch a REST endpoint, query a database, read a file, etc.).
      * </p>
      *
-     * @return the raw payload; must not be {@code null}
+     * <p>
+     * Sources that can tell the data has not changed since the previous poll
+     * (e.g. an HTTP {@code 304 Not Modified}) return {@code null}; the crawler
+     * then skips the cycle without normalizing or publishing anything.
+     * </p>
+     *
+     * @return the raw payload, or {@code null} if nothing changed since the
+     *         previous poll
      * @throws SpoolException if the payload could not be retrieved
      */
     R poll() throws SpoolException;
@@ -50,6 +57,18 @@ public interface PollSource<R> extends Source {
         return this;
     }
 
+    /**
+     * Confirms that the payload returned by the last {@link #poll()} was
+     * captured without a failed step or inbox write.
+     *
+     * <p>
+     * Sources that carry state from one poll to the next, such as HTTP
+     * validators, should only advance it here, so that a failed cycle is
+     * fetched again in full. The default implementation is a no-op.
+     * </p>
+     */
+    default void acknowledge() {}
+
     /**
      * Returns the unique identifier of this source.
      *
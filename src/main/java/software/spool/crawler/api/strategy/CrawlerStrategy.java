@@ -29,4 +29,10 @@ import software.spool.crawler.api.builder.CrawlerBuilderFactory;
  */
 public interface CrawlerStrategy {
     void execute(CancellationToken token) throws SpoolException;
+
+    /**
+     * Releases the threads and files held by the strategy. Called once when
+     * its crawler is closed; the strategy is not executed again afterwards.
+     */
+    default void close() {}
 }
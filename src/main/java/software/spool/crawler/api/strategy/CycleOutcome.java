@@ -0,0 +1,17 @@
+package software.spool.crawler.api.strategy;
+
+/**
+ * Result of a single poll cycle run by {@link PollingStrategy#runOnce}.
+ */
+public enum CycleOutcome {
+    /** The payload was normalized and every record reached the inbox. */
+    COMPLETED,
+    /** Some records were stored, but at least one step or inbox write failed. */
+    PARTIAL,
+    /** The source reported no changes, or the payload fingerprint matched. */
+    UNCHANGED,
+    /** The previous cycle of the same source was still running. */
+    SKIPPED,
+    /** Opening, polling or normalizing failed, or no record could be stored; the errors were routed. */
+    FAILED
+}
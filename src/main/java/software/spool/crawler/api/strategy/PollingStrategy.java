@@ -0,0 +1,31 @@
+package software.spool.crawler.api.strategy;
+
+import software.spool.core.utils.polling.CancellationToken;
+import software.spool.crawler.api.MultiSourceCrawler;
+import software.spool.crawler.api.builder.PollingCrawlerBuilder;
+
+import java.time.Duration;
+
+/**
+ * {@link CrawlerStrategy} of a polled source whose cycles can also be driven
+ * from outside, as {@link MultiSourceCrawler} does.
+ *
+ * <p>
+ * Obtained from {@link PollingCrawlerBuilder#strategyWith}.
+ * </p>
+ */
+public interface PollingStrategy extends CrawlerStrategy {
+    /**
+     * Runs one poll cycle on the calling thread, unless the previous cycle is
+     * still running.
+     */
+    CycleOutcome runOnce(CancellationToken token);
+
+    String sourceId();
+
+    /**
+     * Returns the delay until the next cycle picked by the adaptive schedule,
+     * or {@code null} when the strategy runs on a fixed schedule.
+     */
+    Duration nextInterval();
+}
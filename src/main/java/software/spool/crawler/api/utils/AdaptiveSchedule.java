@@ -0,0 +1,106 @@
+package software.spool.crawler.api.utils;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Polling schedule whose interval follows how often the source actually
+ * produces new records.
+ *
+ * <p>
+ * After every poll cycle the interval is multiplied by {@code backoff} when
+ * the cycle stored no new record (unchanged payload, only duplicates or a
+ * failure), and by {@code speedup} when it did, always staying within
+ * {@code [min, max]}. Each delay is then spread by up to {@code jitter} of the
+ * interval in either direction, so sources that settle on the same interval
+ * do not poll in lockstep.
+ * </p>
+ *
+ * <pre>{@code
+ * CrawlerBuilderFactory.poll(source)
+ *         .schedule(AdaptiveSchedule.between(Duration.ofSeconds(5), Duration.ofMinutes(10))
+ *                 .initial(Duration.ofSeconds(30))
+ *                 .jitter(0.2))
+ * }</pre>
+ */
+public final class AdaptiveSchedule {
+    private final Duration min;
+    private final Duration max;
+    private final Duration initial;
+    private final double backoff;
+    private final double speedup;
+    private final double jitter;
+
+    private AdaptiveSchedule(Duration min, Duration max, Duration initial,
+                             double backoff, double speedup, double jitter) {
+        this.min = min;
+        this.max = max;
+        this.initial = initial;
+        this.backoff = backoff;
+        this.speedup = speedup;
+        this.jitter = jitter;
+    }
+
+    /**
+     * Creates a schedule starting at {@code min}, doubling the interval after
+     * each cycle without new records, halving it after each cycle with new
+     * records, with 10% jitter.
+     */
+    public static AdaptiveSchedule between(Duration min, Duration max) {
+        Objects.requireNonNull(min);
+        Objects.requireNonNull(max);
+        if (min.isZero() || min.isNegative())
+            throw new IllegalArgumentException("Polling interval must be positive");
+        if (max.compareTo(min) < 0)
+            throw new IllegalArgumentException("max must not be shorter than min");
+        return new AdaptiveSchedule(min, max, min, 2.0, 0.5, 0.1);
+    }
+
+    /** Interval of the first cycle, clamped to {@code [min, max]}. */
+    public AdaptiveSchedule initial(Duration initial) {
+        Duration clamped = initial.compareTo(min) < 0 ? min : initial.compareTo(max) > 0 ? max : initial;
+        return new AdaptiveSchedule(min, max, clamped, backoff, speedup, jitter);
+    }
+
+    /** Factor applied after a cycle without new records; at least 1. */
+    public AdaptiveSchedule backoff(double factor) {
+        if (factor < 1) throw new IllegalArgumentException("backoff must be at least 1");
+        return new AdaptiveSchedule(min, max, initial, factor, speedup, jitter);
+    }
+
+    /** Factor applied after a cycle with new records; in {@code (0, 1]}. */
+    public AdaptiveSchedule speedup(double factor) {
+        if (factor <= 0 || factor > 1) throw new IllegalArgumentException("speedup must be in (0, 1]");
+        return new AdaptiveSchedule(min, max, initial, backoff, factor, jitter);
+    }
+
+    /** Largest share of the interval added or removed at random; in {@code [0, 1)}. */
+    public AdaptiveSchedule jitter(double fraction) {
+        if (fraction < 0 || fraction >= 1) throw new IllegalArgumentException("jitter must be in [0, 1)");
+        return new AdaptiveSchedule(min, max, initial, backoff, speedup, fraction);
+    }
+
+    public Duration min() {
+        return min;
+    }
+
+    public Duration max() {
+        return max;
+    }
+
+    public Duration initial() {
+        return initial;
+    }
+
+    public double backoff() {
+        return backoff;
+    }
+
+    public double speedup() {
+        return speedup;
+    }
+
+    public double jitter() {
+        return jitter;
+    }
+}
@@ -0,0 +1,34 @@
+package software.spool.crawler.api.utils;
+
+import java.util.Objects;
+
+/**
+ * Identifies the records of one domain event type by the value found at a
+ * JSON pointer, so a record can be routed to its mapping without trying each
+ * one in turn.
+ *
+ * <pre>{@code
+ * spec.addDomainEvent(Discriminator.field("type", "trade"), Trade.class, "symbol")
+ *     .addDomainEvent(Discriminator.at("/meta/kind", "quote"), Quote.class, "symbol");
+ * }</pre>
+ *
+ * @param pointer JSON pointer of the discriminating field
+ * @param value   textual value the field must have; numbers and booleans are
+ *                compared by their JSON text
+ */
+public record Discriminator(String pointer, String value) {
+    public Discriminator {
+        Objects.requireNonNull(pointer);
+        Objects.requireNonNull(value);
+    }
+
+    /** Matches records whose top-level field {@code name} equals {@code value}. */
+    public static Discriminator field(String name, String value) {
+        return new Discriminator("/" + name.replace("~", "~0").replace("/", "~1"), value);
+    }
+
+    /** Matches records whose value at the JSON pointer {@code pointer} equals {@code value}. */
+    public static Discriminator at(String pointer, String value) {
+        return new Discriminator(pointer, value);
+    }
+}
@@ -0,0 +1,17 @@
+package software.spool.crawler.api.utils;
+
+/**
+ * What the crawler does when the buffer between the normalizer and the
+ * capture pipeline is full.
+ */
+public enum OverflowPolicy {
+    /** Block the poll until the pipeline frees space. */
+    BLOCK,
+    /**
+     * Discard the oldest buffered record to make room for the new one; a
+     * cycle that dropped records does not commit its checkpoint.
+     */
+    DROP_OLDEST,
+    /** Abort the current poll cycle. */
+    FAIL
+}
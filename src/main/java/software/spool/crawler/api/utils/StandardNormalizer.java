@@ -2,8 +2,8 @@ package software.spool.crawler.api.utils;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import software.spool.core.port.serde.EnrichmentRule;
+import software.spool.crawler.api.port.PayloadNormalizer;
 import software.spool.crawler.api.port.source.PollSource;
-import software.spool.crawler.internal.utils.factory.Normalizer;
 import software.spool.crawler.internal.utils.factory.NormalizerFactory;
 
 import java.sql.ResultSet;
@@ -63,18 +63,20 @@ public final class StandardNormalizer {
                         return this;
                 }
 
-                public Normalizer<?, ?, ?> valueOf(Format format) {
+                public PayloadNormalizer valueOf(Format format) {
                         return switch (format) {
                                 case JSON_OBJECT -> JSON_OBJECT.pipelineWith(enrichRules, rootPath);
                                 case JSON_ARRAY  -> JSON_ARRAY.pipelineWith(enrichRules, rootPath);
+                                case JSON_ARRAY_STREAM -> NormalizerFactory.jsonArrayStream(enrichRules, rootPath);
                                 case YAML_ARRAY  -> YAML_ARRAY.pipelineWith(enrichRules, rootPath);
                                 case RESULT_SET  -> RESULT_SET.pipelineWith(enrichRules, rootPath);
+                                case RESULT_SET_STREAM -> NormalizerFactory.resultSetStream();
                                 default -> throw new IllegalArgumentException("Unknown format: " + format);
                         };
                 }
         }
 
         public static enum Format {
-                JSON_ARRAY, YAML_ARRAY, RESULT_SET, JSON_OBJECT
+                JSON_ARRAY, YAML_ARRAY, RESULT_SET, JSON_OBJECT, JSON_ARRAY_STREAM, RESULT_SET_STREAM
         }
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package software.spool.crawler.internal.adapter.file;
+
+import software.spool.crawler.api.port.CheckpointStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * {@link CheckpointStore} keeping one small file per source in a local
+ * directory.
+ *
+ * <p>
+ * A commit writes the watermark to a temporary file, forces it to disk and
+ * atomically renames it over the previous checkpoint, then forces the
+ * directory so the rename itself survives a crash. A crash leaves either the
+ * old or the new watermark, never a torn one.
+ * </p>
+ */
+public class FileCheckpointStore implements CheckpointStore {
+    private final Path directory;
+
+    private FileCheckpointStore(Path directory) {
+        this.directory = directory;
+    }
+
+    public static FileCheckpointStore in(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create checkpoint directory " + directory, e);
+        }
+        return new FileCheckpointStore(directory);
+    }
+
+    @Override
+    public Optional<String> load(String sourceId) {
+        Path file = fileOf(sourceId);
+        try {
+            if (!Files.exists(file)) return Optional.empty();
+            return Optional.of(Files.readString(file, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read checkpoint " + file, e);
+        }
+    }
+
+    @Override
+    public synchronized void commit(String sourceId, String watermark) {
+        Path file = fileOf(sourceId);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ByteBuffer bytes = ByteBuffer.wrap(watermark.getBytes(StandardCharsets.UTF_8));
+                while (bytes.hasRemaining()) channel.write(bytes);
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to commit checkpoint " + file, e);
+        }
+    }
+
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // some platforms, e.g. Windows, cannot open or sync a directory
+        }
+    }
+
+    private Path fileOf(String sourceId) {
+        return directory.resolve(sourceId.replaceAll("[^A-Za-z0-9._-]", "_") + ".checkpoint");
+    }
+}
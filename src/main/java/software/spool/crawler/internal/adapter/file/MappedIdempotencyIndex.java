@@ -0,0 +1,370 @@
+package software.spool.crawler.internal.adapter.file;
+
+import software.spool.core.model.vo.IdempotencyKey;
+import software.spool.crawler.internal.utils.IdempotencyIndex;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.LongPredicate;
+
+/**
+ * {@link IdempotencyIndex} persisted in a memory-mapped file, one per source,
+ * so known keys survive restarts.
+ *
+ * <p>
+ * The file is a fixed-size open-addressing hash table with linear probing.
+ * Each slot holds a 64-bit fingerprint of the key and the time it was last
+ * confirmed; a zero fingerprint marks an empty slot. The header keeps the
+ * number of entries, so opening the index maps the file as-is and startup
+ * cost does not depend on the number of keys. A file of another size or
+ * layout is read once and its entries re-inserted.
+ * </p>
+ *
+ * <p>
+ * The table size is derived from the configured maximum file size and never
+ * grows. When the load factor is reached the table is compacted in place, by
+ * sweeps that delete with backward shift: entries older than the retention
+ * are dropped first, then the oldest ones until the table is half full. No
+ * copy of the entries is made on the heap.
+ * </p>
+ *
+ * <p>
+ * Writes reach the file as the operating system flushes the mapping;
+ * {@link #close()} forces them out and is called when the crawler is closed.
+ * </p>
+ */
+public class MappedIdempotencyIndex implements IdempotencyIndex, AutoCloseable {
+    private static final int MAGIC = 0x53504458;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 16;
+    private static final int SLOT_BYTES = 16;
+    private static final int MIN_SLOTS = 1024;
+    private static final long MAX_FILE_BYTES = 1L << 30;
+    private static final double MAX_LOAD = 0.7;
+    private static final int SIZE_OFFSET = 12;
+    private static final int AGE_BUCKETS = 1024;
+    private static final int READ_SLOTS = 4096;
+
+    private final MappedByteBuffer table;
+    private final int capacity;
+    private final int mask;
+    private final long retentionMillis;
+    private int size;
+
+    private MappedIdempotencyIndex(MappedByteBuffer table, int capacity, long retentionMillis) {
+        this.table = table;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.retentionMillis = retentionMillis;
+    }
+
+    /**
+     * Opens or creates the index file of {@code sourceId} inside
+     * {@code directory}.
+     *
+     * @param maxFileBytes upper bound of the file size, at most 1 GiB
+     * @param retention    how long a key is considered known, or {@code null}
+     *                     to keep keys until evicted by compaction
+     */
+    public static MappedIdempotencyIndex open(Path directory, String sourceId, long maxFileBytes, Duration retention) {
+        checkFileSize(maxFileBytes);
+        int capacity = Integer.highestOneBit((int) ((maxFileBytes - HEADER_BYTES) / SLOT_BYTES));
+        long retentionMillis = Objects.isNull(retention) ? 0 : retention.toMillis();
+        Path file = directory.resolve(sourceId.replaceAll("[^A-Za-z0-9._-]", "_") + ".idx");
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long[] carried = readForeign(channel, capacity);
+                long bytes = HEADER_BYTES + (long) capacity * SLOT_BYTES;
+                if (carried != null) channel.truncate(0);
+                MappedByteBuffer table = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                MappedIdempotencyIndex index = new MappedIdempotencyIndex(table, capacity, retentionMillis);
+                index.load(carried);
+                return index;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open dedupe index " + file, e);
+        }
+    }
+
+    /**
+     * Rejects a file size outside the bounds {@link #open} accepts.
+     */
+    public static void checkFileSize(long maxFileBytes) {
+        if (maxFileBytes < HEADER_BYTES + (long) MIN_SLOTS * SLOT_BYTES || maxFileBytes > MAX_FILE_BYTES)
+            throw new IllegalArgumentException("maxFileBytes must be between "
+                    + (HEADER_BYTES + MIN_SLOTS * SLOT_BYTES) + " and " + MAX_FILE_BYTES);
+    }
+
+    @Override
+    public synchronized boolean contains(IdempotencyKey key) {
+        int slot = find(fingerprint(key));
+        return slot >= 0 && !expired(seenAt(slot), System.currentTimeMillis());
+    }
+
+    @Override
+    public synchronized void remember(IdempotencyKey key) {
+        long fingerprint = fingerprint(key);
+        long now = System.currentTimeMillis();
+        int slot = find(fingerprint);
+        if (slot >= 0) {
+            table.putLong(offset(slot) + Long.BYTES, now);
+            return;
+        }
+        if (size + 1 > capacity * MAX_LOAD) compact(now);
+        insert(fingerprint, now);
+    }
+
+    @Override
+    public synchronized void invalidate(IdempotencyKey key) {
+        int slot = find(fingerprint(key));
+        if (slot >= 0) remove(slot);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Flushes pending writes of the mapping to disk.
+     */
+    @Override
+    public synchronized void close() {
+        table.force();
+    }
+
+    private void load(long[] carried) {
+        if (carried == null) {
+            size = table.getInt(SIZE_OFFSET);
+            if (size < 0 || size > capacity * MAX_LOAD) recount();
+            return;
+        }
+        table.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, capacity).putInt(SIZE_OFFSET, 0);
+        rebuild(carried, carried.length / 2, System.currentTimeMillis());
+    }
+
+    /** Restores the entry count of a header that was not written. */
+    private void recount() {
+        int count = 0;
+        for (int slot = 0; slot < capacity; slot++)
+            if (fingerprintAt(slot) != 0) count++;
+        resize(count);
+    }
+
+    /**
+     * Returns the entries of an existing file written with a different layout
+     * or size as {@code [fingerprint, seenAt]} pairs, or {@code null} if the
+     * file can be mapped as-is. The file is read through the channel, so no
+     * mapping is left behind when it is truncated.
+     */
+    private static long[] readForeign(FileChannel channel, int capacity) throws IOException {
+        long fileBytes = channel.size();
+        if (fileBytes < HEADER_BYTES) return new long[0];
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(channel, header, 0);
+        int version = header.getInt(4);
+        int oldCapacity = header.getInt(8);
+        if (header.getInt(0) != MAGIC || version < 1 || version > VERSION || oldCapacity < 1
+                || fileBytes != HEADER_BYTES + (long) oldCapacity * SLOT_BYTES)
+            return new long[0];
+        if (version == VERSION && oldCapacity == capacity) return null;
+        long[] entries = new long[oldCapacity * 2];
+        int count = 0;
+        ByteBuffer slots = ByteBuffer.allocate(READ_SLOTS * SLOT_BYTES);
+        for (int first = 0; first < oldCapacity; first += READ_SLOTS) {
+            slots.clear().limit(Math.min(READ_SLOTS, oldCapacity - first) * SLOT_BYTES);
+            readFully(channel, slots, HEADER_BYTES + (long) first * SLOT_BYTES);
+            for (int offset = 0; offset < slots.limit(); offset += SLOT_BYTES) {
+                long fingerprint = slots.getLong(offset);
+                if (fingerprint == 0) continue;
+                entries[count++] = fingerprint;
+                entries[count++] = slots.getLong(offset + Long.BYTES);
+            }
+        }
+        return Arrays.copyOf(entries, count);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) throw new EOFException("Dedupe index ended before " + (position + buffer.limit()));
+        }
+    }
+
+    /**
+     * Frees slots in place: drops expired entries, then the oldest ones while
+     * the table is more than half full.
+     */
+    private void compact(long now) {
+        if (retentionMillis > 0) sweep(seenAt -> expired(seenAt, now));
+        int target = capacity / 2;
+        if (size <= target) return;
+        long cutoff = ageCutoff(size - target);
+        sweep(seenAt -> seenAt < cutoff);
+        sweep(seenAt -> seenAt == cutoff && size > target);
+    }
+
+    /**
+     * Removes every entry whose confirmation time matches {@code drop}. The
+     * sweep starts after an empty slot, so no probe chain wraps around it,
+     * and re-checks a slot after each removal, since the backward shift moves
+     * a later entry of the chain into it.
+     */
+    private void sweep(LongPredicate drop) {
+        int start = 0;
+        while (fingerprintAt(start) != 0) start++;
+        for (int i = 1; i <= capacity; i++) {
+            int slot = (start + i) & mask;
+            while (fingerprintAt(slot) != 0 && drop.test(seenAt(slot))) remove(slot);
+        }
+    }
+
+    /**
+     * Returns the confirmation time {@code t} such that fewer than
+     * {@code excess} entries are older than {@code t} but at least
+     * {@code excess} are not newer, narrowing a histogram of the times until
+     * its buckets are one millisecond wide.
+     */
+    private long ageCutoff(int excess) {
+        long lo = Long.MAX_VALUE;
+        long hi = Long.MIN_VALUE;
+        for (int slot = 0; slot < capacity; slot++) {
+            if (fingerprintAt(slot) == 0) continue;
+            lo = Math.min(lo, seenAt(slot));
+            hi = Math.max(hi, seenAt(slot));
+        }
+        hi++;
+        int older = 0;
+        int[] counts = new int[AGE_BUCKETS];
+        while (hi - lo > 1) {
+            long width = (hi - lo + AGE_BUCKETS - 1) / AGE_BUCKETS;
+            Arrays.fill(counts, 0);
+            for (int slot = 0; slot < capacity; slot++) {
+                long seenAt = seenAt(slot);
+                if (fingerprintAt(slot) != 0 && seenAt >= lo && seenAt < hi) counts[(int) ((seenAt - lo) / width)]++;
+            }
+            int bucket = 0;
+            while (older + counts[bucket] < excess) older += counts[bucket++];
+            lo += bucket * width;
+            hi = Math.min(hi, lo + width);
+        }
+        return lo;
+    }
+
+    /**
+     * Clears the table and re-inserts the newest non-expired entries, keeping
+     * it at most half full.
+     */
+    private void rebuild(long[] entries, int count, long now) {
+        int live = 0;
+        long[] seen = new long[count];
+        for (int i = 0; i < count; i++)
+            if (!expired(entries[i * 2 + 1], now)) seen[live++] = entries[i * 2 + 1];
+        int target = capacity / 2;
+        long cutoff = Long.MIN_VALUE;
+        if (live > target) {
+            Arrays.sort(seen, 0, live);
+            cutoff = seen[live - target];
+        }
+        for (int slot = 0; slot < capacity; slot++) {
+            table.putLong(offset(slot), 0);
+            table.putLong(offset(slot) + Long.BYTES, 0);
+        }
+        resize(0);
+        for (int i = 0; i < count && size < target; i++) {
+            long seenAt = entries[i * 2 + 1];
+            if (!expired(seenAt, now) && seenAt >= cutoff) insert(entries[i * 2], seenAt);
+        }
+    }
+
+    private void insert(long fingerprint, long seenAt) {
+        int slot = home(fingerprint);
+        while (fingerprintAt(slot) != 0) slot = (slot + 1) & mask;
+        table.putLong(offset(slot), fingerprint);
+        table.putLong(offset(slot) + Long.BYTES, seenAt);
+        resize(size + 1);
+    }
+
+    private int find(long fingerprint) {
+        int slot = home(fingerprint);
+        for (long current = fingerprintAt(slot); current != 0; current = fingerprintAt(slot)) {
+            if (current == fingerprint) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Deletes a slot with backward-shift deletion, so probe chains stay intact
+     * without tombstones.
+     */
+    private void remove(int slot) {
+        int hole = slot;
+        for (int next = (slot + 1) & mask; fingerprintAt(next) != 0; next = (next + 1) & mask) {
+            int home = home(fingerprintAt(next));
+            boolean reachable = hole <= next ? home > hole && home <= next : home > hole || home <= next;
+            if (reachable) continue;
+            table.putLong(offset(hole), fingerprintAt(next));
+            table.putLong(offset(hole) + Long.BYTES, seenAt(next));
+            hole = next;
+        }
+        table.putLong(offset(hole), 0);
+        table.putLong(offset(hole) + Long.BYTES, 0);
+        resize(size - 1);
+    }
+
+    private void resize(int entries) {
+        size = entries;
+        table.putInt(SIZE_OFFSET, entries);
+    }
+
+    private boolean expired(long seenAt, long now) {
+        return retentionMillis > 0 && now - seenAt > retentionMillis;
+    }
+
+    private long fingerprintAt(int slot) {
+        return table.getLong(offset(slot));
+    }
+
+    private long seenAt(int slot) {
+        return table.getLong(offset(slot) + Long.BYTES);
+    }
+
+    private int home(long fingerprint) {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+
+    private static int offset(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    /**
+     * 64-bit FNV-1a of the key, finalized with the MurmurHash3 mixer; zero is
+     * reserved for empty slots.
+     */
+    private static long fingerprint(IdempotencyKey key) {
+        String value = key.value();
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+}
@@ -0,0 +1,171 @@
+package software.spool.crawler.internal.adapter.http;
+
+import software.spool.core.exception.SpoolException;
+import software.spool.crawler.api.port.source.PollSource;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Base class for {@link PollSource} implementations that fetch a single URL
+ * over HTTP.
+ *
+ * <p>
+ * Subclasses only decide how the response body is consumed through
+ * {@link #bodyHandler()} and {@link #toPayload(HttpResponse)}; request
+ * construction and status handling are shared.
+ * </p>
+ *
+ * <p>
+ * The source remembers the {@code ETag} and {@code Last-Modified} validators
+ * of the last successful response and sends them back as
+ * {@code If-None-Match} / {@code If-Modified-Since}. When the server answers
+ * {@code 304 Not Modified}, {@link #poll()} returns {@code null} so the
+ * crawler skips the cycle without downloading or processing anything. The
+ * validators of a new response are only kept as pending until the crawler
+ * {@linkplain #acknowledge() acknowledges} the cycle, so a payload that was
+ * not fully read or captured is requested again unconditionally.
+ * </p>
+ *
+ * <p>
+ * Requests go through a {@link SharedHttpClient}, by default the
+ * process-wide one, so sources polling the same hosts share connections and
+ * per-host limits. {@link #pollAsync()} exposes the non-blocking form of
+ * {@link #poll()} for callers that drive sources themselves; the crawlers
+ * call {@link #poll()}, which holds the cycle's thread until the payload is
+ * available.
+ * </p>
+ *
+ * <p>
+ * Requests advertise {@code Accept-Encoding: gzip, deflate}, so
+ * {@link #bodyHandler()} must decode the body; subclasses return one of the
+ * {@link #decodedBody()} or {@link #decodedString()} handlers, which also
+ * record the compressed and decompressed size of each poll.
+ * </p>
+ *
+ * @param <B> the body type produced by the {@link HttpResponse.BodyHandler}
+ * @param <R> the payload type returned by {@link #poll()}
+ */
+public abstract class AbstractHTTPPollSource<B, R> implements PollSource<R> {
+    private final SharedHttpClient httpClient;
+    private final String url;
+    private final String sourceId;
+    private final SharedHttpClient.ResponseSizes responseSizes;
+    private volatile String etag;
+    private volatile String lastModified;
+    private volatile String pendingEtag;
+    private volatile String pendingLastModified;
+
+    protected AbstractHTTPPollSource(String url, String sourceId) {
+        this(url, sourceId, SharedHttpClient.shared());
+    }
+
+    protected AbstractHTTPPollSource(String url, String sourceId, SharedHttpClient httpClient) {
+        this.url = url;
+        this.sourceId = sourceId;
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.responseSizes = httpClient.responseSizes(sourceId);
+    }
+
+    protected abstract HttpResponse.BodyHandler<B> bodyHandler();
+
+    protected abstract R toPayload(HttpResponse<B> response) throws Exception;
+
+    protected void discard(HttpResponse<B> response) {}
+
+    /** Body handler inflating the response as it is read. */
+    protected HttpResponse.BodyHandler<InputStream> decodedBody() {
+        return ContentDecoding.ofInputStream(responseSizes);
+    }
+
+    /** Body handler decoding the whole response into a {@code String}. */
+    protected HttpResponse.BodyHandler<String> decodedString() {
+        return ContentDecoding.ofString(responseSizes);
+    }
+
+    @Override
+    public R poll() throws SpoolException {
+        try {
+            return pollAsync().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while polling " + sourceId, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SpoolException spool) throw spool;
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new RuntimeException("Error polling: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Sends the request without blocking; the future completes with the
+     * payload, or {@code null} on {@code 304 Not Modified}.
+     */
+    public CompletableFuture<R> pollAsync() {
+        return httpClient.sendAsync(buildRequest(), bodyHandler())
+                .thenApply(this::handle)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof SpoolException spool) throw spool;
+                    throw new RuntimeException("Error polling: " + cause.getMessage(), cause);
+                });
+    }
+
+    private R handle(HttpResponse<B> response) {
+        if (response.statusCode() == 304) {
+            discard(response);
+            return null;
+        }
+        if (response.statusCode() != 200) {
+            discard(response);
+            throw new RuntimeException(
+                    "HTTP source " + sourceId + " returned HTTP " + response.statusCode()
+            );
+        }
+        try {
+            R payload = toPayload(response);
+            holdValidators(response);
+            return payload;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    protected HttpRequest buildRequest() {
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofSeconds(10))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", ContentDecoding.ACCEPT_ENCODING)
+                .GET();
+        if (etag != null) builder.header("If-None-Match", etag);
+        if (lastModified != null) builder.header("If-Modified-Since", lastModified);
+        return builder.build();
+    }
+
+    private void holdValidators(HttpResponse<B> response) {
+        pendingEtag = response.headers().firstValue("ETag").orElse(null);
+        pendingLastModified = response.headers().firstValue("Last-Modified").orElse(null);
+    }
+
+    /**
+     * Sends the validators of the last response with the following requests.
+     */
+    @Override
+    public void acknowledge() {
+        etag = pendingEtag;
+        lastModified = pendingLastModified;
+    }
+
+    @Override
+    public String sourceId() {
+        return sourceId;
+    }
+}
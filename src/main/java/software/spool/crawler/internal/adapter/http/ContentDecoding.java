@@ -0,0 +1,202 @@
+package software.spool.crawler.internal.adapter.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Body handlers that undo the {@code Content-Encoding} negotiated through
+ * {@link #ACCEPT_ENCODING}.
+ *
+ * <p>
+ * Decompression streams: {@link #ofInputStream} inflates while the consumer
+ * reads, so a streaming deserializer parses records straight out of the
+ * compressed transfer. Both handlers count the bytes received on the wire and
+ * the bytes after decoding, and report them once per response to the given
+ * {@link SharedHttpClient.ResponseSizes}.
+ * </p>
+ */
+public final class ContentDecoding {
+    public static final String ACCEPT_ENCODING = "gzip, deflate";
+    private static final int BUFFER = 8192;
+
+    private ContentDecoding() {}
+
+    /**
+     * Returns the decoded body as a stream, inflated as it is read. The
+     * sizes are reported when the stream reaches its end or is closed.
+     */
+    public static HttpResponse.BodyHandler<InputStream> ofInputStream(SharedHttpClient.ResponseSizes sizes) {
+        return info -> {
+            String encoding = encodingOf(info.headers());
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofInputStream(),
+                    body -> new DecodingInputStream(body, encoding, sizes));
+        };
+    }
+
+    /**
+     * Returns the decoded body as a {@code String}, in the charset of the
+     * {@code Content-Type} or UTF-8.
+     */
+    public static HttpResponse.BodyHandler<String> ofString(SharedHttpClient.ResponseSizes sizes) {
+        return info -> {
+            String encoding = encodingOf(info.headers());
+            Charset charset = charsetOf(info.headers());
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), raw -> {
+                try (InputStream body = new DecodingInputStream(new ByteArrayInputStream(raw), encoding, sizes)) {
+                    return new String(body.readAllBytes(), charset);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Unable to decode " + encoding + " response body", e);
+                }
+            });
+        };
+    }
+
+    private static String encodingOf(HttpHeaders headers) {
+        return headers.firstValue("Content-Encoding").orElse("identity").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Charset charsetOf(HttpHeaders headers) {
+        String contentType = headers.firstValue("Content-Type").orElse("");
+        for (String parameter : contentType.split(";")) {
+            String[] pair = parameter.trim().split("=", 2);
+            if (pair.length == 2 && pair[0].trim().equalsIgnoreCase("charset")) {
+                try {
+                    return Charset.forName(pair[1].trim().replace("\"", ""));
+                } catch (IllegalArgumentException ignored) {
+                    break;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Wraps the raw body in the decoder of its encoding on first read, so
+     * that no header is read while the response is still being set up and an
+     * empty body closed unread does not fail.
+     */
+    private static final class DecodingInputStream extends InputStream {
+        private final CountingInputStream wire;
+        private final String encoding;
+        private final SharedHttpClient.ResponseSizes sizes;
+        private InputStream decoded;
+        private Inflater inflater;
+        private long decodedBytes;
+        private boolean reported;
+
+        private DecodingInputStream(InputStream raw, String encoding, SharedHttpClient.ResponseSizes sizes) {
+            this.wire = new CountingInputStream(raw);
+            this.encoding = encoding;
+            this.sizes = sizes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = decoded().read();
+            if (b < 0) report();
+            else decodedBytes++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = decoded().read(buffer, offset, length);
+            if (n < 0) report();
+            else decodedBytes += n;
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return decoded == null ? 0 : decoded.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            report();
+            try {
+                (decoded == null ? wire : decoded).close();
+            } finally {
+                if (inflater != null) inflater.end();
+            }
+        }
+
+        private InputStream decoded() throws IOException {
+            if (decoded == null) decoded = open();
+            return decoded;
+        }
+
+        private InputStream open() throws IOException {
+            switch (encoding) {
+                case "identity":
+                    return wire;
+                case "gzip":
+                case "x-gzip":
+                    return new GZIPInputStream(wire, BUFFER);
+                case "deflate":
+                    // RFC 9110 deflate is zlib-wrapped, but some servers send a raw stream
+                    PushbackInputStream peek = new PushbackInputStream(wire, 2);
+                    byte[] header = peek.readNBytes(2);
+                    peek.unread(header);
+                    boolean zlib = header.length == 2 && (header[0] & 0x0F) == 8
+                            && (((header[0] & 0xFF) << 8) | (header[1] & 0xFF)) % 31 == 0;
+                    inflater = new Inflater(!zlib);
+                    return new InflaterInputStream(peek, inflater, BUFFER);
+                default:
+                    throw new IOException("Unsupported Content-Encoding: " + encoding);
+            }
+        }
+
+        private void report() {
+            if (reported) return;
+            reported = true;
+            if (wire.count > 0) sizes.record(wire.count, decodedBytes);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = in.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = in.read(buffer, offset, length);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = in.skip(n);
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -1,56 +1,24 @@
 package software.spool.crawler.internal.adapter.http;
 
-import software.spool.core.exception.SpoolException;
-import software.spool.crawler.api.port.source.PollSource;
-
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
 
-public class HTTPPollSource implements PollSource<String> {
-    private final HttpClient httpClient;
-    private final String url;
-    private final String sourceId;
+public class HTTPPollSource extends AbstractHTTPPollSource<String, String> {
 
     public HTTPPollSource(String url, String sourceId) {
-        this.url = url;
-        this.sourceId = sourceId;
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(5))
-                .build();
+        super(url, sourceId);
     }
 
-    @Override
-    public String poll() throws SpoolException {
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofSeconds(10))
-                    .header("Accept", "application/json")
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(
-                    request, HttpResponse.BodyHandlers.ofString()
-            );
+    public HTTPPollSource(String url, String sourceId, SharedHttpClient httpClient) {
+        super(url, sourceId, httpClient);
+    }
 
-            if (response.statusCode() != 200) {
-                throw new RuntimeException(
-                        "Gemini API returned HTTP " + response.statusCode()
-                );
-            }
-            return response.body();
-        } catch (SpoolException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new RuntimeException("Error polling: " + e.getMessage(), e);
-        }
+    @Override
+    protected HttpResponse.BodyHandler<String> bodyHandler() {
+        return decodedString();
     }
 
     @Override
-    public String sourceId() {
-        return sourceId;
+    protected String toPayload(HttpResponse<String> response) {
+        return response.body();
     }
 }
@@ -0,0 +1,45 @@
+package software.spool.crawler.internal.adapter.http;
+
+import software.spool.crawler.internal.utils.factory.StreamingJsonNormalizer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+
+/**
+ * HTTP source that hands the response body to the normalizer as an
+ * {@link InputStream} instead of buffering it into a {@code String}.
+ *
+ * <p>
+ * Paired with {@link StreamingJsonNormalizer}, records are emitted while the
+ * body is still downloading. The connection is released when the record
+ * stream, and therefore the body stream, is closed.
+ * </p>
+ */
+public class HTTPStreamPollSource extends AbstractHTTPPollSource<InputStream, InputStream> {
+
+    public HTTPStreamPollSource(String url, String sourceId) {
+        super(url, sourceId);
+    }
+
+    public HTTPStreamPollSource(String url, String sourceId, SharedHttpClient httpClient) {
+        super(url, sourceId, httpClient);
+    }
+
+    @Override
+    protected HttpResponse.BodyHandler<InputStream> bodyHandler() {
+        return decodedBody();
+    }
+
+    @Override
+    protected InputStream toPayload(HttpResponse<InputStream> response) {
+        return response.body();
+    }
+
+    @Override
+    protected void discard(HttpResponse<InputStream> response) {
+        try {
+            response.body().close();
+        } catch (IOException ignored) {}
+    }
+}
@@ -0,0 +1,139 @@
+package software.spool.crawler.internal.adapter.http;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import software.spool.crawler.internal.utils.JsonPointers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Decides which page {@link PaginatedHTTPPollSource} fetches after a given
+ * one.
+ *
+ * <p>
+ * Body-based navigators read the page with a streaming parser that stops at
+ * the value they need, without building a tree.
+ * </p>
+ */
+@FunctionalInterface
+public interface PageNavigator {
+    /**
+     * @param url      the URL the page was fetched from
+     * @param response the page
+     * @return the URL of the next page, or {@code null} if this was the last one
+     */
+    String next(String url, HttpResponse<String> response);
+
+    /**
+     * Follows the {@code rel="next"} entry of the {@code Link} header
+     * (RFC 8288), resolved against the current URL.
+     */
+    static PageNavigator linkHeader() {
+        Pattern link = Pattern.compile("<([^>]*)>([^<]*)");
+        Pattern nextRel = Pattern.compile("rel\\s*=\\s*\"?(?:[^\";,]*\\s)?next(?:[\\s\";,]|$)", Pattern.CASE_INSENSITIVE);
+        return (url, response) -> {
+            for (String header : response.headers().allValues("Link")) {
+                Matcher matcher = link.matcher(header);
+                while (matcher.find())
+                    if (nextRel.matcher(matcher.group(2)).find())
+                        return URI.create(url).resolve(matcher.group(1)).toString();
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Sends the cursor found at {@code cursorPointer} in the page body as the
+     * {@code queryParam} of the next request; stops when the cursor is
+     * missing, {@code null} or empty.
+     */
+    static PageNavigator cursor(String cursorPointer, String queryParam) {
+        JsonPointer pointer = JsonPointer.compile(cursorPointer);
+        JsonFactory factory = new JsonFactory();
+        return (url, response) -> {
+            try (JsonParser parser = factory.createParser(response.body())) {
+                if (!JsonPointers.moveTo(parser, pointer) || !parser.currentToken().isScalarValue()
+                        || parser.currentToken() == JsonToken.VALUE_NULL) return null;
+                String cursor = parser.getText();
+                return cursor.isEmpty() ? null : withQueryParam(url, queryParam, cursor);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read the page cursor of " + url, e);
+            }
+        };
+    }
+
+    /**
+     * Advances the {@code offsetParam} query parameter by {@code pageSize}
+     * until a page holds fewer than {@code pageSize} elements in the array at
+     * {@code arrayPointer}.
+     */
+    static PageNavigator offset(String offsetParam, int pageSize, String arrayPointer) {
+        if (pageSize < 1) throw new IllegalArgumentException("pageSize must be at least 1");
+        JsonPointer pointer = JsonPointer.compile(arrayPointer);
+        JsonFactory factory = new JsonFactory();
+        return (url, response) -> {
+            try (JsonParser parser = factory.createParser(response.body())) {
+                if (!JsonPointers.moveTo(parser, pointer) || parser.currentToken() != JsonToken.START_ARRAY)
+                    return null;
+                int elements = 0;
+                while (parser.nextToken() != JsonToken.END_ARRAY && elements < pageSize) {
+                    parser.skipChildren();
+                    elements++;
+                }
+                if (elements < pageSize) return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to count the records of " + url, e);
+            }
+            String current = queryParam(url, offsetParam);
+            long offset = current == null ? 0 : Long.parseLong(current);
+            return withQueryParam(url, offsetParam, Long.toString(offset + pageSize));
+        };
+    }
+
+    private static String queryParam(String url, String name) {
+        String query = URI.create(url).getRawQuery();
+        if (query == null) return null;
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            if (key.equals(name)) return eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    private static String withQueryParam(String url, String name, String value) {
+        URI uri = URI.create(url);
+        String encoded = URLEncoder.encode(name, StandardCharsets.UTF_8) + "="
+                + URLEncoder.encode(value, StandardCharsets.UTF_8);
+        StringJoiner query = new StringJoiner("&");
+        boolean replaced = false;
+        if (uri.getRawQuery() != null) {
+            for (String pair : uri.getRawQuery().split("&")) {
+                int eq = pair.indexOf('=');
+                String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+                if (key.equals(name)) {
+                    if (!replaced) query.add(encoded);
+                    replaced = true;
+                } else if (!pair.isEmpty()) {
+                    query.add(pair);
+                }
+            }
+        }
+        if (!replaced) query.add(encoded);
+        String base = url.contains("?") ? url.substring(0, url.indexOf('?')) : url;
+        int fragment = base.indexOf('#');
+        if (fragment >= 0) base = base.substring(0, fragment);
+        return base + "?" + query;
+    }
+}
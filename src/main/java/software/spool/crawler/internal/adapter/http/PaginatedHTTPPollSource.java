@@ -0,0 +1,200 @@
+package software.spool.crawler.internal.adapter.http;
+
+import software.spool.core.exception.SourcePollException;
+import software.spool.crawler.api.port.source.PollSource;
+import software.spool.crawler.internal.utils.WorkerThreads;
+import software.spool.crawler.internal.utils.factory.PagedNormalizer;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * HTTP source that follows a paginated API within one poll cycle.
+ *
+ * <p>
+ * {@link #poll()} returns the page bodies as a lazy {@link Stream}; the first
+ * page requested from it starts fetching on a background thread, so a stream
+ * that is never consumed holds no thread. Up to {@code prefetch} pages are
+ * downloaded ahead of the one being normalized and captured, so network wait
+ * and processing overlap. The {@link PageNavigator} reads each page to find
+ * the next one, so pages are requested one after the other. Pair the source
+ * with a {@link PagedNormalizer} to stream the records of each page into the
+ * pipeline as soon as it arrives:
+ * </p>
+ *
+ * <pre>{@code
+ * CrawlerBuilderFactory.poll(new PaginatedHTTPPollSource(url, "orders",
+ *                 PageNavigator.cursor("/next_cursor", "cursor"), 4, 1000))
+ *         .ports(ports)
+ *         .createWith(PagedNormalizer.of(StreamingJsonNormalizer.of("/data")));
+ * }</pre>
+ *
+ * <p>
+ * Pages are fetched through a {@link SharedHttpClient}, by default the
+ * process-wide one. A failed page ends the stream with a {@link SourcePollException}; records
+ * of the pages before it have already been captured. Closing the stream
+ * stops the fetcher.
+ * </p>
+ */
+public class PaginatedHTTPPollSource implements PollSource<Stream<String>> {
+    private final SharedHttpClient httpClient;
+    private final SharedHttpClient.ResponseSizes responseSizes;
+    private final String firstUrl;
+    private final String sourceId;
+    private final PageNavigator navigator;
+    private final int prefetch;
+    private final int maxPages;
+    private final ThreadFactory fetchers;
+
+    public PaginatedHTTPPollSource(String firstUrl, String sourceId, PageNavigator navigator) {
+        this(firstUrl, sourceId, navigator, 2, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param prefetch pages downloaded ahead of the page being processed
+     * @param maxPages pages fetched per poll cycle at most
+     */
+    public PaginatedHTTPPollSource(String firstUrl, String sourceId, PageNavigator navigator,
+                                   int prefetch, int maxPages) {
+        this(firstUrl, sourceId, navigator, prefetch, maxPages, SharedHttpClient.shared());
+    }
+
+    public PaginatedHTTPPollSource(String firstUrl, String sourceId, PageNavigator navigator,
+                                   int prefetch, int maxPages, SharedHttpClient httpClient) {
+        if (prefetch < 1) throw new IllegalArgumentException("prefetch must be at least 1");
+        if (maxPages < 1) throw new IllegalArgumentException("maxPages must be at least 1");
+        this.firstUrl = Objects.requireNonNull(firstUrl);
+        this.sourceId = Objects.requireNonNull(sourceId);
+        this.navigator = Objects.requireNonNull(navigator);
+        this.prefetch = prefetch;
+        this.maxPages = maxPages;
+        this.httpClient = Objects.requireNonNull(httpClient);
+        this.responseSizes = httpClient.responseSizes(sourceId);
+        String name = "spool-pages-" + sourceId;
+        this.fetchers = Objects.requireNonNullElseGet(WorkerThreads.virtual(name), () -> WorkerThreads.platform(name));
+    }
+
+    @Override
+    public Stream<String> poll() {
+        PageFetcher fetcher = new PageFetcher();
+        return StreamSupport.stream(fetcher, false).onClose(fetcher::cancel);
+    }
+
+    @Override
+    public String sourceId() {
+        return sourceId;
+    }
+
+    private HttpRequest buildRequest(String url) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(Duration.ofSeconds(10))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", ContentDecoding.ACCEPT_ENCODING)
+                .GET()
+                .build();
+    }
+
+    private record Page(String body, Exception error) {
+        private static final Page END = new Page(null, null);
+    }
+
+    /**
+     * Fetches pages into a bounded queue on its own thread and hands them out
+     * as a {@link Spliterator} on the consuming one. The thread is started by
+     * the first {@link #tryAdvance}.
+     */
+    private final class PageFetcher extends Spliterators.AbstractSpliterator<String> implements Runnable {
+        private final BlockingQueue<Page> pages = new ArrayBlockingQueue<>(prefetch);
+        private volatile boolean cancelled;
+        private volatile Thread thread;
+        private boolean finished;
+
+        private PageFetcher() {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        }
+
+        @Override
+        public void run() {
+            String url = firstUrl;
+            try {
+                for (int fetched = 0; url != null && fetched < maxPages && !cancelled; fetched++) {
+                    HttpResponse<String> response = httpClient.send(buildRequest(url), ContentDecoding.ofString(responseSizes));
+                    if (response.statusCode() != 200)
+                        throw new IllegalStateException("HTTP source " + sourceId + " returned HTTP "
+                                + response.statusCode() + " for " + url);
+                    pages.put(new Page(response.body(), null));
+                    url = navigator.next(url, response);
+                }
+                pages.put(Page.END);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                if (!cancelled) offerError(e);
+            }
+        }
+
+        private void offerError(Exception error) {
+            try {
+                pages.put(new Page(null, error));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            if (finished || !start()) return false;
+            Page page;
+            try {
+                page = pages.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancel();
+                throw new SourcePollException(sourceId, "Interrupted while waiting for the next page", e);
+            }
+            if (page.error() != null) {
+                finished = true;
+                throw new SourcePollException(sourceId, "Error polling page: " + page.error().getMessage(), page.error());
+            }
+            if (page == Page.END) {
+                finished = true;
+                return false;
+            }
+            action.accept(page.body());
+            return true;
+        }
+
+        private boolean start() {
+            if (thread != null) return true;
+            synchronized (this) {
+                if (cancelled) return false;
+                if (thread == null) {
+                    Thread started = fetchers.newThread(this);
+                    started.start();
+                    thread = started;
+                }
+                return true;
+            }
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            finished = true;
+            Thread running = thread;
+            if (running != null) running.interrupt();
+            pages.clear();
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package software.spool.crawler.internal.adapter.http;
+
+import software.spool.core.adapter.otel.OpenTelemetryMetricsRegistry;
+import software.spool.core.port.metrics.MetricsRegistry;
+import software.spool.crawler.internal.utils.WorkerThreads;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One {@link HttpClient} shared by many HTTP sources, with a cap on the
+ * concurrent requests sent to each host.
+ *
+ * <p>
+ * The client prefers HTTP/2, so requests to the same host are multiplexed
+ * over one connection, and keeps HTTP/1.1 connections alive between polls.
+ * All I/O runs on the client's selector and executor threads; a request
+ * waiting for a free slot of its host holds no thread of the client. Unless
+ * the builder is given one, the executor is a fixed pool of daemon threads,
+ * one per processor, instead of the JDK's unbounded cached pool. A slot is held
+ * until the response future completes, that is until the whole body has been
+ * read for in-memory body handlers, and until the headers have arrived for
+ * streaming ones.
+ * </p>
+ *
+ * <p>
+ * The crawlers still call the blocking {@code PollSource.poll()}, so each
+ * poll cycle keeps its worker thread while its request is in flight; the
+ * per-host cap bounds the requests, not those threads.
+ * </p>
+ *
+ * <p>
+ * Instruments, all carrying a {@code host} attribute:
+ * </p>
+ * <ul>
+ * <li>{@code spool.http.requests} ({request}, {@code version}): completed
+ * exchanges by negotiated protocol; {@code HTTP_2} requests share the one
+ * connection of their host. The JDK client does not report per-connection
+ * reuse for HTTP/1.1.</li>
+ * <li>{@code spool.http.requests.inflight} ({request}): requests in flight to
+ * the host, sampled as each one starts.</li>
+ * <li>{@code spool.http.queue.duration} (ms): time spent waiting for a free
+ * slot of the host.</li>
+ * <li>{@code spool.http.request.duration} (ms, {@code version}): from sending
+ * the request to the completion of the response future.</li>
+ * </ul>
+ *
+ * <p>
+ * {@code spool.http.response.bytes} (By, {@code sourceId}, {@code form})
+ * records the body of each poll as received on the wire and after
+ * {@link ContentDecoding}; {@code decoded / wire} is the compression ratio.
+ * </p>
+ */
+public final class SharedHttpClient {
+    private final HttpClient client;
+    private final int maxPerHost;
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+    private final MetricsRegistry.LongHistogramMetric requests;
+    private final MetricsRegistry.LongHistogramMetric inFlight;
+    private final MetricsRegistry.LongHistogramMetric queueDuration;
+    private final MetricsRegistry.LongHistogramMetric requestDuration;
+    private final MetricsRegistry.LongHistogramMetric responseBytes;
+
+    private SharedHttpClient(Builder builder) {
+        HttpClient.Builder client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(builder.connectTimeout);
+        this.client = client
+                .executor(Objects.requireNonNullElseGet(builder.executor, SharedHttpClient::defaultExecutor))
+                .build();
+        this.maxPerHost = builder.maxPerHost;
+        MetricsRegistry registry = Objects.requireNonNullElseGet(builder.registry, OpenTelemetryMetricsRegistry::new);
+        this.requests = registry.histogram("spool.http.requests", "", "{request}");
+        this.inFlight = registry.histogram("spool.http.requests.inflight", "", "{request}");
+        this.queueDuration = registry.histogram("spool.http.queue.duration", "", "ms");
+        this.requestDuration = registry.histogram("spool.http.request.duration", "", "ms");
+        this.responseBytes = registry.histogram("spool.http.response.bytes", "", "By");
+    }
+
+    /** Returns the process-wide client used by sources that are not given one. */
+    public static SharedHttpClient shared() {
+        return Default.INSTANCE;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Sends the request once its host has a free slot. Cancelling the
+     * returned future gives up the queued slot, or aborts the exchange once
+     * it has started.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> handler) {
+        Host host = hostOf(request.uri());
+        long queued = System.nanoTime();
+        CompletableFuture<Void> slot = host.acquire();
+        CompletableFuture<HttpResponse<T>> response = new CompletableFuture<>();
+        slot.thenRun(() -> {
+            if (response.isDone()) {
+                host.release();
+                return;
+            }
+            long started = System.nanoTime();
+            queueDuration.record(TimeUnit.NANOSECONDS.toMillis(started - queued), host.attributes);
+            inFlight.record(host.inFlight.incrementAndGet(), host.attributes);
+            CompletableFuture<HttpResponse<T>> exchange;
+            try {
+                exchange = client.sendAsync(request, handler);
+            } catch (RuntimeException e) {
+                host.inFlight.decrementAndGet();
+                host.release();
+                response.completeExceptionally(e);
+                return;
+            }
+            exchange.whenComplete((result, error) -> {
+                host.inFlight.decrementAndGet();
+                host.release();
+                if (Objects.isNull(result)) {
+                    response.completeExceptionally(error instanceof CompletionException && Objects.nonNull(error.getCause())
+                            ? error.getCause() : error);
+                    return;
+                }
+                Map<String, String> attributes = host.versions.get(result.version());
+                requests.record(1, attributes);
+                requestDuration.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), attributes);
+                response.complete(result);
+            });
+            response.whenComplete((result, error) -> {
+                if (response.isCancelled()) exchange.cancel(true);
+            });
+        });
+        response.whenComplete((result, error) -> {
+            if (response.isCancelled() && slot.cancel(false)) host.withdraw(slot);
+        });
+        return response;
+    }
+
+    /**
+     * Blocking variant of {@link #sendAsync}, with the exceptions of
+     * {@link HttpClient#send}.
+     */
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        CompletableFuture<HttpResponse<T>> response = sendAsync(request, handler);
+        try {
+            return response.get();
+        } catch (InterruptedException e) {
+            response.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException runtime) throw runtime;
+            throw new IOException(cause);
+        }
+    }
+
+    /** Returns the recorder of the response sizes of one source. */
+    public ResponseSizes responseSizes(String sourceId) {
+        return new ResponseSizes(sourceId);
+    }
+
+    private static Executor defaultExecutor() {
+        return Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()),
+                WorkerThreads.platform("spool-http"));
+    }
+
+    private Host hostOf(URI uri) {
+        String authority = uri.getScheme() + "://" + uri.getHost() + (uri.getPort() < 0 ? "" : ":" + uri.getPort());
+        return hosts.computeIfAbsent(authority, Host::new);
+    }
+
+    /**
+     * Per-host slots; waiters are futures completed in arrival order as slots
+     * free up.
+     */
+    private final class Host {
+        private final Map<String, String> attributes;
+        private final Map<HttpClient.Version, Map<String, String>> versions = new EnumMap<>(HttpClient.Version.class);
+        private final AtomicLong inFlight = new AtomicLong();
+        private final Deque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+        private int active;
+
+        private Host(String authority) {
+            this.attributes = Map.of("host", authority);
+            for (HttpClient.Version version : HttpClient.Version.values())
+                versions.put(version, Map.of("host", authority, "version", version.name()));
+        }
+
+        private CompletableFuture<Void> acquire() {
+            synchronized (this) {
+                if (active < maxPerHost) {
+                    active++;
+                    return CompletableFuture.completedFuture(null);
+                }
+                CompletableFuture<Void> slot = new CompletableFuture<>();
+                waiting.add(slot);
+                return slot;
+            }
+        }
+
+        private synchronized void withdraw(CompletableFuture<Void> slot) {
+            waiting.remove(slot);
+        }
+
+        /**
+         * Hands the slot to the oldest waiter still queued; waiters cancelled
+         * by their caller are skipped.
+         */
+        private void release() {
+            while (true) {
+                CompletableFuture<Void> next;
+                synchronized (this) {
+                    next = waiting.poll();
+                    if (Objects.isNull(next)) {
+                        active--;
+                        return;
+                    }
+                }
+                if (next.complete(null)) return;
+            }
+        }
+    }
+
+    public final class ResponseSizes {
+        private final Map<String, String> wire;
+        private final Map<String, String> decoded;
+
+        private ResponseSizes(String sourceId) {
+            this.wire = Map.of("sourceId", sourceId, "form", "wire");
+            this.decoded = Map.of("sourceId", sourceId, "form", "decoded");
+        }
+
+        public void record(long wireBytes, long decodedBytes) {
+            responseBytes.record(wireBytes, wire);
+            responseBytes.record(decodedBytes, decoded);
+        }
+    }
+
+    private static final class Default {
+        private static final SharedHttpClient INSTANCE = builder().build();
+    }
+
+    public static final class Builder {
+        private int maxPerHost = 16;
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Executor executor;
+        private MetricsRegistry registry;
+
+        private Builder() {}
+
+        /** Requests sent to one host at the same time; 16 by default. */
+        public Builder maxConcurrentPerHost(int maxPerHost) {
+            if (maxPerHost < 1) throw new IllegalArgumentException("maxConcurrentPerHost must be at least 1");
+            this.maxPerHost = maxPerHost;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = Objects.requireNonNull(connectTimeout);
+            return this;
+        }
+
+        /**
+         * Executor of the client's asynchronous tasks; a fixed pool of daemon
+         * threads, one per processor, otherwise.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor);
+            return this;
+        }
+
+        public Builder metrics(MetricsRegistry registry) {
+            this.registry = Objects.requireNonNull(registry);
+            return this;
+        }
+
+        public SharedHttpClient build() {
+            return new SharedHttpClient(this);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package software.spool.crawler.internal.adapter.postgres;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import software.spool.core.exception.InboxWriteException;
+import software.spool.core.model.vo.Envelope;
+import software.spool.core.model.vo.EventMetadataKey;
+import software.spool.core.model.vo.IdempotencyKey;
+import software.spool.crawler.api.port.InboxWriteResult;
+import software.spool.crawler.api.port.InboxWriter;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@link InboxWriter} backed by PostgreSQL through a HikariCP connection pool.
+ *
+ * <p>
+ * Batches are written with idempotent multi-row
+ * {@code INSERT ... ON CONFLICT (idempotency_key) DO NOTHING RETURNING}
+ * statements; keys that are not returned were already present and are
+ * reported as duplicates. Batches at or above the COPY threshold are streamed
+ * into a temporary staging table with {@code COPY} and merged in a single
+ * statement instead. Either way a batch is written in one transaction, so it
+ * is stored completely or not at all.
+ * </p>
+ *
+ * <p>
+ * Besides the payload, each row carries the envelope metadata ({@code source},
+ * {@code partition_schema}, {@code correlation_id}, {@code type}) and its
+ * {@code envelope_status}. When a key appears more than once in a batch only
+ * its first envelope is written; the later ones are reported as duplicates.
+ * </p>
+ *
+ * <p>
+ * The target table needs a unique index on {@code idempotency_key} and the
+ * metadata columns (see {@code .docker/postgres/init/02_idempotency.sql} and
+ * {@code 03_envelope_metadata.sql}).
+ * </p>
+ */
+public class PostgresInboxWriter implements InboxWriter, AutoCloseable {
+    private static final String COLUMNS =
+            "idempotency_key, payload, source, partition_schema, correlation_id, type, envelope_status";
+    private static final int PARAMS_PER_ROW = 7;
+    private static final int MAX_PARAMS = 65535;
+
+    private final DataSource dataSource;
+    private final String table;
+    private final int rowsPerStatement;
+    private final int copyThreshold;
+
+    private PostgresInboxWriter(Builder builder) {
+        this.dataSource = Objects.requireNonNullElseGet(builder.dataSource, builder::buildPool);
+        this.table = builder.table;
+        this.rowsPerStatement = Math.min(builder.rowsPerStatement, MAX_PARAMS / PARAMS_PER_ROW);
+        this.copyThreshold = builder.copyThreshold;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public IdempotencyKey receive(Envelope envelope) throws InboxWriteException {
+        InboxWriteResult result = receiveAll(List.of(envelope)).get(0);
+        return result.status() == InboxWriteResult.Status.STORED ? result.receivedKey() : null;
+    }
+
+    @Override
+    public List<InboxWriteResult> receiveAll(List<Envelope> envelopes) {
+        if (envelopes.isEmpty()) return List.of();
+        Map<String, Envelope> firsts = firstByKey(envelopes);
+        List<Envelope> rows = new ArrayList<>(firsts.values());
+        try (Connection connection = dataSource.getConnection()) {
+            Set<String> inserted = inTransaction(connection, () -> rows.size() >= copyThreshold
+                    ? copyAndMerge(connection, rows)
+                    : insertAll(connection, rows));
+            return toResults(envelopes, firsts, inserted);
+        } catch (SQLException e) {
+            throw new InboxWriteException(e.getMessage(), e);
+        }
+    }
+
+    private static Map<String, Envelope> firstByKey(List<Envelope> envelopes) {
+        Map<String, Envelope> firsts = new LinkedHashMap<>(envelopes.size() * 2);
+        for (Envelope envelope : envelopes)
+            firsts.putIfAbsent(envelope.idempotencyKey().value(), envelope);
+        return firsts;
+    }
+
+    private static Set<String> inTransaction(Connection connection, Write write) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            Set<String> inserted = write.run();
+            connection.commit();
+            return inserted;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private Set<String> insertAll(Connection connection, List<Envelope> envelopes) throws SQLException {
+        Set<String> inserted = new HashSet<>(envelopes.size() * 2);
+        for (int from = 0; from < envelopes.size(); from += rowsPerStatement) {
+            List<Envelope> chunk = envelopes.subList(from, Math.min(envelopes.size(), from + rowsPerStatement));
+            try (PreparedStatement statement = connection.prepareStatement(insertSql(chunk.size()))) {
+                int index = 1;
+                for (Envelope envelope : chunk)
+                    for (String value : columnValues(envelope))
+                        statement.setString(index++, value);
+                collectKeys(statement.executeQuery(), inserted);
+            }
+        }
+        return inserted;
+    }
+
+    private Set<String> copyAndMerge(Connection connection, List<Envelope> envelopes) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMP TABLE spool_inbox_staging (idempotency_key TEXT, payload TEXT, "
+                    + "source TEXT, partition_schema TEXT, correlation_id TEXT, type TEXT, envelope_status TEXT) "
+                    + "ON COMMIT DROP");
+            CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY spool_inbox_staging (" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)");
+            try {
+                for (Envelope envelope : envelopes) {
+                    byte[] row = csvRow(envelope).getBytes(StandardCharsets.UTF_8);
+                    copy.writeToCopy(row, 0, row.length);
+                }
+                copy.endCopy();
+            } finally {
+                if (copy.isActive()) copy.cancelCopy();
+            }
+            Set<String> inserted = new HashSet<>(envelopes.size() * 2);
+            collectKeys(statement.executeQuery("INSERT INTO " + table + " (" + COLUMNS + ") "
+                    + "SELECT idempotency_key, payload::jsonb, source, partition_schema, correlation_id, type, "
+                    + "envelope_status FROM spool_inbox_staging "
+                    + "ON CONFLICT (idempotency_key) DO NOTHING RETURNING idempotency_key"), inserted);
+            return inserted;
+        }
+    }
+
+    private String insertSql(int rows) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+                .append(" (").append(COLUMNS).append(") VALUES ");
+        for (int i = 0; i < rows; i++)
+            sql.append(i == 0 ? "" : ", ").append("(?, ?::jsonb, ?, ?, ?, ?, ?)");
+        return sql.append(" ON CONFLICT (idempotency_key) DO NOTHING RETURNING idempotency_key").toString();
+    }
+
+    /**
+     * Values of one row in {@link #COLUMNS} order; absent metadata is
+     * {@code null}.
+     */
+    private static String[] columnValues(Envelope envelope) {
+        return new String[] {
+                envelope.idempotencyKey().value(),
+                envelope.payload(),
+                metadata(envelope, EventMetadataKey.SOURCE),
+                metadata(envelope, EventMetadataKey.PARTITION_SCHEMA),
+                metadata(envelope, EventMetadataKey.CORRELATION_ID),
+                metadata(envelope, EventMetadataKey.TYPE),
+                Objects.toString(envelope.status(), null)
+        };
+    }
+
+    private static String metadata(Envelope envelope, EventMetadataKey key) {
+        return Objects.isNull(envelope.metadata()) ? null : Objects.toString(envelope.metadata().get(key), null);
+    }
+
+    private static void collectKeys(ResultSet rs, Set<String> keys) throws SQLException {
+        try (rs) {
+            while (rs.next()) keys.add(rs.getString(1));
+        }
+    }
+
+    private static List<InboxWriteResult> toResults(List<Envelope> envelopes, Map<String, Envelope> firsts,
+                                                    Set<String> inserted) {
+        List<InboxWriteResult> results = new ArrayList<>(envelopes.size());
+        for (Envelope envelope : envelopes) {
+            IdempotencyKey key = envelope.idempotencyKey();
+            boolean written = firsts.get(key.value()) == envelope;
+            results.add(written && inserted.contains(key.value())
+                    ? InboxWriteResult.stored(envelope, key)
+                    : InboxWriteResult.duplicate(envelope));
+        }
+        return results;
+    }
+
+    private static String csvRow(Envelope envelope) {
+        StringBuilder row = new StringBuilder();
+        for (String value : columnValues(envelope))
+            row.append(row.length() == 0 ? "" : ",").append(csvField(value));
+        return row.append('\n').toString();
+    }
+
+    /** Quotes the value; {@code null} is the unquoted empty field. */
+    private static String csvField(String value) {
+        if (Objects.isNull(value)) return "";
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface Write {
+        Set<String> run() throws SQLException;
+    }
+
+    @Override
+    public void close() {
+        if (dataSource instanceof HikariDataSource pool) pool.close();
+    }
+
+    /**
+     * Fluent builder for {@link PostgresInboxWriter}.
+     */
+    public static class Builder {
+        private DataSource dataSource;
+        private String jdbcUrl;
+        private String user;
+        private String password;
+        private int maxPoolSize = 8;
+        private String table = "spool_inbox.events";
+        private int rowsPerStatement = 1000;
+        private int copyThreshold = 5000;
+
+        Builder() {
+        }
+
+        /** Uses an existing pool instead of creating one. */
+        public Builder dataSource(DataSource dataSource) {
+            this.dataSource = dataSource;
+            return this;
+        }
+
+        public Builder jdbcUrl(String jdbcUrl) {
+            this.jdbcUrl = jdbcUrl;
+            return this;
+        }
+
+        public Builder credentials(String user, String password) {
+            this.user = user;
+            this.password = password;
+            return this;
+        }
+
+        public Builder maxPoolSize(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+            return this;
+        }
+
+        public Builder table(String table) {
+            this.table = Objects.requireNonNull(table);
+            return this;
+        }
+
+        /** Maximum number of rows in one multi-row {@code INSERT}. */
+        public Builder rowsPerStatement(int rowsPerStatement) {
+            if (rowsPerStatement < 1) throw new IllegalArgumentException("rowsPerStatement must be at least 1");
+            this.rowsPerStatement = rowsPerStatement;
+            return this;
+        }
+
+        /** Batch size from which the COPY-into-staging path is used. */
+        public Builder copyThreshold(int copyThreshold) {
+            this.copyThreshold = copyThreshold;
+            return this;
+        }
+
+        public PostgresInboxWriter build() {
+            if (dataSource == null) Objects.requireNonNull(jdbcUrl, "jdbcUrl or dataSource must be set");
+            return new PostgresInboxWriter(this);
+        }
+
+        private DataSource buildPool() {
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl(jdbcUrl);
+            config.setUsername(user);
+            config.setPassword(password);
+            config.setMaximumPoolSize(maxPoolSize);
+            config.setPoolName("spool-inbox");
+            return new HikariDataSource(config);
+        }
+    }
+}
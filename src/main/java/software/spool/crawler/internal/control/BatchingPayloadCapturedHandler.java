@@ -0,0 +1,26 @@
+package software.spool.crawler.internal.control;
+
+import software.spool.core.pipeline.Pipeline;
+import software.spool.core.pipeline.PipelineContext;
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.internal.control.steps.EnvelopeBatchStep;
+
+public class BatchingPayloadCapturedHandler extends PayloadCapturedHandler {
+    private final EnvelopeBatchStep batch;
+
+    public BatchingPayloadCapturedHandler(Pipeline<PipelineContext, PipelineContext> pipeline, EnvelopeBatchStep batch,
+                                          String sourceId, ErrorRouter errorRouter) {
+        super(pipeline, sourceId, errorRouter);
+        this.batch = batch;
+    }
+
+    @Override
+    public void complete() {
+        batch.flush();
+    }
+
+    @Override
+    public void close() {
+        batch.close();
+    }
+}
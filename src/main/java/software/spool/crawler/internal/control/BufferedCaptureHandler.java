@@ -0,0 +1,171 @@
+package software.spool.crawler.internal.control;
+
+import software.spool.core.port.metrics.MetricsRegistry;
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.utils.OverflowPolicy;
+import software.spool.crawler.internal.utils.CrawlerMetrics;
+import software.spool.crawler.internal.utils.Utf8;
+import software.spool.crawler.internal.utils.WorkerThreads;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link CaptureHandler} decorator that decouples the poll from the capture
+ * pipeline through a bounded queue drained by a dedicated thread.
+ *
+ * <p>
+ * The queue is bounded both by record count and by the UTF-8 size of the
+ * payloads, measured once as each record is queued. A record larger than the
+ * byte bound is still accepted when the queue is empty. When full, the
+ * configured {@link OverflowPolicy} applies. Queue depth, producer blocked
+ * time and dropped records are reported per source. Dropped records also count
+ * as {@linkplain CrawlerMetrics#failures() failures}, so a cycle that lost
+ * records does not advance its checkpoint. {@link #close()} stops the
+ * consumer thread.
+ * </p>
+ */
+public class BufferedCaptureHandler implements CaptureHandler {
+    private final CaptureHandler delegate;
+    private final ErrorRouter errorRouter;
+    private final int maxRecords;
+    private final long maxBytes;
+    private final OverflowPolicy policy;
+    private final Map<String, String> attributes;
+    private final MetricsRegistry.LongHistogramMetric depth;
+    private final MetricsRegistry.LongHistogramMetric blocked;
+    private final MetricsRegistry.LongHistogramMetric dropped;
+    private final CrawlerMetrics metrics;
+    private final ArrayDeque<Queued> queue;
+    private final ReentrantLock lock;
+    private final Condition notFull;
+    private final Condition notEmpty;
+    private final Condition drained;
+    private final Thread consumer;
+    private long bytes;
+    private boolean consuming;
+    private volatile boolean closed;
+
+    public BufferedCaptureHandler(CaptureHandler delegate, String sourceId, ErrorRouter errorRouter,
+                                  int maxRecords, long maxBytes, OverflowPolicy policy,
+                                  MetricsRegistry.LongHistogramMetric depth,
+                                  MetricsRegistry.LongHistogramMetric blocked,
+                                  MetricsRegistry.LongHistogramMetric dropped,
+                                  CrawlerMetrics metrics) {
+        if (maxRecords < 1 || maxBytes < 1) throw new IllegalArgumentException("Buffer bounds must be positive");
+        this.delegate = delegate;
+        this.errorRouter = errorRouter;
+        this.maxRecords = maxRecords;
+        this.maxBytes = maxBytes;
+        this.policy = policy;
+        this.attributes = Map.of("sourceId", sourceId);
+        this.depth = depth;
+        this.blocked = blocked;
+        this.dropped = dropped;
+        this.metrics = metrics;
+        this.queue = new ArrayDeque<>();
+        this.lock = new ReentrantLock();
+        this.notFull = lock.newCondition();
+        this.notEmpty = lock.newCondition();
+        this.drained = lock.newCondition();
+        this.consumer = WorkerThreads.platform("spool-buffer-" + sourceId).newThread(this::consume);
+        this.consumer.start();
+    }
+
+    @Override
+    public void handle(CapturedRecord record) {
+        long size = Utf8.length(record.payload());
+        lock.lock();
+        try {
+            makeRoomFor(size);
+            queue.addLast(new Queued(record, size));
+            bytes += size;
+            depth.record(queue.size(), attributes);
+            notEmpty.signal();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.recordsDropped(1);
+            errorRouter.dispatch(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void complete() {
+        lock.lock();
+        try {
+            while (!queue.isEmpty() || consuming) drained.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorRouter.dispatch(e);
+        } finally {
+            lock.unlock();
+        }
+        delegate.complete();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        consumer.interrupt();
+        delegate.close();
+    }
+
+    private void makeRoomFor(long size) throws InterruptedException {
+        long blockedSince = 0;
+        while (full(size)) {
+            switch (policy) {
+                case BLOCK -> {
+                    if (blockedSince == 0) blockedSince = System.nanoTime();
+                    notFull.await();
+                }
+                case DROP_OLDEST -> {
+                    bytes -= queue.removeFirst().bytes();
+                    dropped.record(1, attributes);
+                    metrics.recordsDropped(1);
+                }
+                case FAIL -> throw new IllegalStateException("Capture buffer full: "
+                        + queue.size() + " records, " + bytes + " bytes");
+            }
+        }
+        if (blockedSince != 0)
+            blocked.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - blockedSince), attributes);
+    }
+
+    private boolean full(long size) {
+        if (queue.isEmpty()) return false;
+        return queue.size() >= maxRecords || bytes + size > maxBytes;
+    }
+
+    private void consume() {
+        while (!closed) {
+            Queued next;
+            lock.lock();
+            try {
+                consuming = false;
+                if (queue.isEmpty()) drained.signalAll();
+                while (queue.isEmpty()) notEmpty.await();
+                next = queue.removeFirst();
+                bytes -= next.bytes();
+                consuming = true;
+                notFull.signalAll();
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            try {
+                delegate.handle(next.record());
+            } catch (Exception e) {
+                errorRouter.dispatch(e);
+            }
+        }
+    }
+
+    private record Queued(CapturedRecord record, long bytes) {}
+}
@@ -0,0 +1,65 @@
+package software.spool.crawler.internal.control;
+
+import software.spool.core.port.bus.Handler;
+import software.spool.crawler.api.port.CapturedRecord;
+
+/**
+ * {@link Handler} for the records of one poll cycle.
+ *
+ * <p>
+ * Records arrive as {@link CapturedRecord}s so that a tree parsed by the
+ * normalizer travels with its serialized payload; plain payloads are wrapped
+ * on entry.
+ * </p>
+ *
+ * <p>
+ * The polling strategy calls {@link #complete()} once the cycle has emitted
+ * its last record, so handlers that defer work (e.g. batching) can finish it
+ * before the next cycle starts, and {@link #close()} once the crawler is
+ * closed, so they can release their threads.
+ * </p>
+ */
+public interface CaptureHandler extends Handler<String> {
+    void handle(CapturedRecord record);
+
+    @Override
+    default void handle(String payload) {
+        handle(CapturedRecord.of(payload));
+    }
+
+    default void complete() {}
+
+    default void close() {}
+
+    /**
+     * Returns a handler that delegates to {@code handler} and also closes
+     * {@code resource}, e.g. a persistent index used by its pipeline, when it
+     * is closed.
+     */
+    static CaptureHandler closing(CaptureHandler handler, AutoCloseable resource) {
+        return new CaptureHandler() {
+            @Override
+            public void handle(CapturedRecord record) {
+                handler.handle(record);
+            }
+
+            @Override
+            public void complete() {
+                handler.complete();
+            }
+
+            @Override
+            public void close() {
+                try {
+                    handler.close();
+                } finally {
+                    try {
+                        resource.close();
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Unable to close " + resource, e);
+                    }
+                }
+            }
+        };
+    }
+}
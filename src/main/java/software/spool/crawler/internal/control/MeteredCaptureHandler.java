@@ -0,0 +1,58 @@
+package software.spool.crawler.internal.control;
+
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.internal.utils.CrawlerMetrics;
+
+/**
+ * Tracks the records in flight through an asynchronous handler chain.
+ *
+ * <p>
+ * The chain is wrapped twice: {@link #accepting} at its entry counts a record
+ * when the strategy hands it over, {@link #handling} around the handler that
+ * runs the pipeline counts it again once the pipeline is done with it.
+ * </p>
+ */
+public class MeteredCaptureHandler implements CaptureHandler {
+    private final CaptureHandler handler;
+    private final CrawlerMetrics metrics;
+    private final boolean entry;
+
+    private MeteredCaptureHandler(CaptureHandler handler, CrawlerMetrics metrics, boolean entry) {
+        this.handler = handler;
+        this.metrics = metrics;
+        this.entry = entry;
+    }
+
+    public static MeteredCaptureHandler accepting(CaptureHandler handler, CrawlerMetrics metrics) {
+        return new MeteredCaptureHandler(handler, metrics, true);
+    }
+
+    public static MeteredCaptureHandler handling(CaptureHandler handler, CrawlerMetrics metrics) {
+        return new MeteredCaptureHandler(handler, metrics, false);
+    }
+
+    @Override
+    public void handle(CapturedRecord record) {
+        if (entry) {
+            metrics.recordAccepted();
+            handler.handle(record);
+            return;
+        }
+        try {
+            handler.handle(record);
+        } finally {
+            metrics.recordHandled();
+        }
+    }
+
+    @Override
+    public void complete() {
+        handler.complete();
+        if (entry) metrics.cycleDrained();
+    }
+
+    @Override
+    public void close() {
+        handler.close();
+    }
+}
@@ -0,0 +1,62 @@
+package software.spool.crawler.internal.control;
+
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.internal.utils.PartitionKeyExtractor;
+
+/**
+ * {@link CaptureHandler} decorator that fans records out to a
+ * {@link PartitionedExecutor}. Records with the same partition key are handled
+ * in order; {@link #complete()} returns only once every record of the cycle
+ * has been handled, and {@link #close()} stops the executor's lanes.
+ */
+public class PartitionedCaptureHandler implements CaptureHandler {
+    private final CaptureHandler delegate;
+    private final PartitionKeyExtractor keyExtractor;
+    private final PartitionedExecutor executor;
+    private final ErrorRouter errorRouter;
+
+    public PartitionedCaptureHandler(CaptureHandler delegate, PartitionKeyExtractor keyExtractor,
+                                     PartitionedExecutor executor, ErrorRouter errorRouter) {
+        this.delegate = delegate;
+        this.keyExtractor = keyExtractor;
+        this.executor = executor;
+        this.errorRouter = errorRouter;
+    }
+
+    @Override
+    public void handle(CapturedRecord record) {
+        try {
+            executor.submit(keyExtractor.keyOf(record), () -> handleSafely(record));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorRouter.dispatch(e);
+        }
+    }
+
+    @Override
+    public void complete() {
+        try {
+            executor.awaitIdle();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errorRouter.dispatch(e);
+        } finally {
+            delegate.complete();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        delegate.close();
+    }
+
+    private void handleSafely(CapturedRecord record) {
+        try {
+            delegate.handle(record);
+        } catch (Exception e) {
+            errorRouter.dispatch(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package software.spool.crawler.internal.control;
+
+import software.spool.crawler.internal.utils.WorkerThreads;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed set of single-threaded lanes. Tasks submitted with the same key always
+ * run on the same lane, so they keep their submission order while tasks with
+ * different keys run in parallel.
+ *
+ * <p>
+ * Each lane has a bounded queue; {@link #submit} blocks when the target lane
+ * is full, which throttles the producer instead of buffering the whole poll.
+ * </p>
+ *
+ * <p>
+ * A task that throws, even an {@link Error}, is reported to the lane thread's
+ * uncaught exception handler and the lane goes on with its next task, so
+ * {@link #awaitIdle()} always returns. {@link #shutdown()} stops the lanes.
+ * </p>
+ */
+public class PartitionedExecutor {
+    private final BlockingQueue<Runnable>[] lanes;
+    private final Thread[] threads;
+    private final ReentrantLock lock;
+    private final Condition idle;
+    private long inFlight;
+    private volatile boolean shutdown;
+
+    public PartitionedExecutor(String name, int workers, int queueCapacity) {
+        this(WorkerThreads.platform(name), workers, queueCapacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public PartitionedExecutor(ThreadFactory threads, int workers, int queueCapacity) {
+        if (workers < 1) throw new IllegalArgumentException("At least one worker is required");
+        this.lanes = new BlockingQueue[workers];
+        this.threads = new Thread[workers];
+        this.lock = new ReentrantLock();
+        this.idle = lock.newCondition();
+        for (int i = 0; i < workers; i++) {
+            BlockingQueue<Runnable> lane = new ArrayBlockingQueue<>(queueCapacity);
+            lanes[i] = lane;
+            this.threads[i] = threads.newThread(() -> drain(lane));
+            this.threads[i].start();
+        }
+    }
+
+    public void submit(Object key, Runnable task) throws InterruptedException {
+        if (shutdown) throw new RejectedExecutionException("Executor has been shut down");
+        lock.lock();
+        try {
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            lanes[Math.floorMod(key.hashCode(), lanes.length)].put(task);
+        } catch (InterruptedException e) {
+            done();
+            throw e;
+        }
+    }
+
+    /**
+     * Blocks until every submitted task has run.
+     */
+    public void awaitIdle() throws InterruptedException {
+        lock.lock();
+        try {
+            while (inFlight > 0) idle.await();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the lanes; tasks still queued are discarded.
+     */
+    public void shutdown() {
+        shutdown = true;
+        for (Thread thread : threads) thread.interrupt();
+    }
+
+    private void drain(BlockingQueue<Runnable> lane) {
+        while (!shutdown) {
+            Runnable task;
+            try {
+                task = lane.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            try {
+                task.run();
+            } catch (Throwable error) {
+                Thread current = Thread.currentThread();
+                current.getUncaughtExceptionHandler().uncaughtException(current, error);
+            } finally {
+                done();
+            }
+        }
+    }
+
+    private void done() {
+        lock.lock();
+        try {
+            if (--inFlight == 0) idle.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -2,11 +2,11 @@ package software.spool.crawler.internal.control;
 
 import software.spool.core.pipeline.Pipeline;
 import software.spool.core.pipeline.PipelineContext;
-import software.spool.core.port.bus.Handler;
 import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.port.CapturedRecord;
 import software.spool.crawler.internal.control.steps.CapturedPayloadKeys;
 
-public class PayloadCapturedHandler implements Handler<String> {
+public class PayloadCapturedHandler implements CaptureHandler {
     private final Pipeline<PipelineContext, PipelineContext> pipeline;
     private final String sourceId;
     private final ErrorRouter errorRouter;
@@ -18,10 +18,11 @@ public class PayloadCapturedHandler implements Handler<String> {
     }
 
     @Override
-    public void handle(String payload) {
+    public void handle(CapturedRecord record) {
         PipelineContext initial = PipelineContext.empty()
                 .with(CapturedPayloadKeys.SOURCE_ID, sourceId)
-                .with(CapturedPayloadKeys.PAYLOAD, payload);
+                .with(CapturedPayloadKeys.PAYLOAD, record.payload())
+                .with(CapturedPayloadKeys.RECORD, record);
         pipeline.execute(initial)
                 .peekError(errorRouter::dispatch);
     }
@@ -1,62 +1,30 @@
 package software.spool.crawler.internal.control.steps;
 
 import software.spool.core.exception.DuplicateEventException;
-import software.spool.core.model.EnvelopeStatus;
 import software.spool.core.model.vo.*;
 import software.spool.core.pipeline.PipelineContext;
 import software.spool.core.pipeline.Step;
 import software.spool.core.port.serde.RecordSerializer;
 import software.spool.crawler.api.port.InboxWriter;
-import software.spool.crawler.internal.utils.TypedDomainMapping;
 
 import javax.management.AttributeNotFoundException;
-import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 
 public class BuildAndStoreEnvelopeStep implements Step<PipelineContext, PipelineContext> {
     private final InboxWriter inboxWriter;
-    private final RecordSerializer<PartitionKeySchema> serializer;
-    private final List<String> defaultPartitionAttributes;
+    private final BuildEnvelopeStep envelopeStep;
 
     public BuildAndStoreEnvelopeStep(InboxWriter inboxWriter, RecordSerializer<PartitionKeySchema> serializer, List<String> defaultPartitionAttributes) {
         this.inboxWriter = inboxWriter;
-        this.serializer = serializer;
-        this.defaultPartitionAttributes = defaultPartitionAttributes;
+        this.envelopeStep = new BuildEnvelopeStep(serializer, defaultPartitionAttributes);
     }
 
     @Override
     public PipelineContext apply(PipelineContext ctx) throws AttributeNotFoundException {
-        IdempotencyKey key = inboxWriter.receive(buildEnvelope(ctx));
+        PipelineContext built = envelopeStep.apply(ctx);
+        IdempotencyKey key = inboxWriter.receive(built.require(CapturedPayloadKeys.ENVELOPE));
         if (key == null)
             throw new DuplicateEventException(ctx.require(CapturedPayloadKeys.CAPTURED_EVENT).idempotencyKey());
-        return ctx.with(CapturedPayloadKeys.RECEIVED_KEY, key);
-    }
-
-    private Envelope buildEnvelope(PipelineContext ctx) throws AttributeNotFoundException {
-        return new Envelope(
-                ctx.require(CapturedPayloadKeys.CAPTURED_EVENT).idempotencyKey(),
-                buildMetadata(ctx),
-                ctx.require(CapturedPayloadKeys.PAYLOAD),
-                EnvelopeStatus.CAPTURED, 0, Instant.now());
-    }
-
-    private EventMetadata buildMetadata(PipelineContext ctx) throws AttributeNotFoundException {
-        Optional<TypedDomainMapping> matched = ctx.require(CapturedPayloadKeys.DOMAIN_MAPPING);
-        EventMetadata metadata = new EventMetadata()
-                .set(EventMetadataKey.SOURCE, ctx.require(CapturedPayloadKeys.SOURCE_ID))
-                .set(EventMetadataKey.PARTITION_SCHEMA, serializer.serialize(buildPartitionSchema(ctx)))
-                .set(EventMetadataKey.CORRELATION_ID, ctx.require(CapturedPayloadKeys.CAPTURED_EVENT).correlationId());
-        matched.map(TypedDomainMapping::targetType)
-                .ifPresent(type -> metadata.set(EventMetadataKey.TYPE, type.toString()));
-        return metadata;
-    }
-
-    private PartitionKeySchema buildPartitionSchema(PipelineContext ctx) throws AttributeNotFoundException {
-        Optional<TypedDomainMapping> matched = ctx.require(CapturedPayloadKeys.DOMAIN_MAPPING);
-        return PartitionKeySchema.of(
-                ctx.require(CapturedPayloadKeys.SOURCE_ID),
-                matched.map(TypedDomainMapping::targetType).orElse(null),
-                matched.map(TypedDomainMapping::partitionAttributes).orElse(defaultPartitionAttributes));
+        return built.with(CapturedPayloadKeys.RECEIVED_KEY, key);
     }
 }
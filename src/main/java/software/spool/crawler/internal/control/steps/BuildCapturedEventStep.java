@@ -4,9 +4,9 @@ import software.spool.core.model.event.SourcePayloadCaptured;
 import software.spool.core.model.vo.IdempotencyKey;
 import software.spool.core.pipeline.PipelineContext;
 import software.spool.core.pipeline.Step;
+import software.spool.crawler.internal.utils.CorrelationIds;
 
 import javax.management.AttributeNotFoundException;
-import java.util.UUID;
 
 public class BuildCapturedEventStep implements Step<PipelineContext, PipelineContext> {
     @Override
@@ -14,7 +14,7 @@ public class BuildCapturedEventStep implements Step<PipelineContext, PipelineCon
         SourcePayloadCaptured captured = SourcePayloadCaptured.builder()
                 .idempotencyKey(IdempotencyKey.of(ctx.require(CapturedPayloadKeys.SOURCE_ID),
                         ctx.require(CapturedPayloadKeys.PAYLOAD)))
-                .correlationId(UUID.randomUUID().toString())
+                .correlationId(CorrelationIds.next())
                 .build();
         return ctx.with(CapturedPayloadKeys.CAPTURED_EVENT, captured);
     }
@@ -0,0 +1,84 @@
+package software.spool.crawler.internal.control.steps;
+
+import software.spool.core.model.EnvelopeStatus;
+import software.spool.core.model.vo.*;
+import software.spool.core.pipeline.PipelineContext;
+import software.spool.core.pipeline.Step;
+import software.spool.core.port.serde.RecordSerializer;
+import software.spool.crawler.internal.utils.TypedDomainMapping;
+
+import javax.management.AttributeNotFoundException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the {@link Envelope} of a captured record.
+ *
+ * <p>
+ * The serialized partition schema and the type name only depend on the source
+ * and the matched mapping, so they are computed once per combination and kept
+ * as a {@link MetadataTemplate}; each record only allocates its own metadata.
+ * </p>
+ */
+public class BuildEnvelopeStep implements Step<PipelineContext, PipelineContext> {
+    private static final Object UNMAPPED = new Object();
+
+    private final RecordSerializer<PartitionKeySchema> serializer;
+    private final List<String> defaultPartitionAttributes;
+    private final Map<String, Map<Object, MetadataTemplate>> templates;
+
+    public BuildEnvelopeStep(RecordSerializer<PartitionKeySchema> serializer, List<String> defaultPartitionAttributes) {
+        this.serializer = serializer;
+        this.defaultPartitionAttributes = defaultPartitionAttributes;
+        this.templates = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public PipelineContext apply(PipelineContext ctx) throws AttributeNotFoundException {
+        return ctx.with(CapturedPayloadKeys.ENVELOPE, buildEnvelope(ctx));
+    }
+
+    private Envelope buildEnvelope(PipelineContext ctx) throws AttributeNotFoundException {
+        return new Envelope(
+                ctx.require(CapturedPayloadKeys.CAPTURED_EVENT).idempotencyKey(),
+                buildMetadata(ctx),
+                ctx.require(CapturedPayloadKeys.PAYLOAD),
+                EnvelopeStatus.CAPTURED, 0, Instant.now());
+    }
+
+    private EventMetadata buildMetadata(PipelineContext ctx) throws AttributeNotFoundException {
+        String sourceId = ctx.require(CapturedPayloadKeys.SOURCE_ID);
+        MetadataTemplate template = templateFor(sourceId, ctx.require(CapturedPayloadKeys.DOMAIN_MAPPING));
+        EventMetadata metadata = new EventMetadata()
+                .set(EventMetadataKey.SOURCE, sourceId)
+                .set(EventMetadataKey.PARTITION_SCHEMA, template.partitionSchema())
+                .set(EventMetadataKey.CORRELATION_ID, ctx.require(CapturedPayloadKeys.CAPTURED_EVENT).correlationId());
+        if (template.type() != null) metadata.set(EventMetadataKey.TYPE, template.type());
+        return metadata;
+    }
+
+    private MetadataTemplate templateFor(String sourceId, Optional<TypedDomainMapping> matched) {
+        Map<Object, MetadataTemplate> bySource = templates.get(sourceId);
+        if (bySource == null) bySource = templates.computeIfAbsent(sourceId, id -> new ConcurrentHashMap<>());
+        Object key = matched.isPresent() ? matched.get() : UNMAPPED;
+        MetadataTemplate template = bySource.get(key);
+        if (template != null) return template;
+        template = new MetadataTemplate(
+                serializer.serialize(buildPartitionSchema(sourceId, matched)),
+                matched.map(m -> m.targetType().toString()).orElse(null));
+        MetadataTemplate previous = bySource.putIfAbsent(key, template);
+        return previous != null ? previous : template;
+    }
+
+    private PartitionKeySchema buildPartitionSchema(String sourceId, Optional<TypedDomainMapping> matched) {
+        return PartitionKeySchema.of(
+                sourceId,
+                matched.map(TypedDomainMapping::targetType).orElse(null),
+                matched.map(TypedDomainMapping::partitionAttributes).orElse(defaultPartitionAttributes));
+    }
+
+    private record MetadataTemplate(String partitionSchema, String type) {}
+}
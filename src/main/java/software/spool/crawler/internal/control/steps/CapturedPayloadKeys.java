@@ -1,8 +1,10 @@
 package software.spool.crawler.internal.control.steps;
 
 import software.spool.core.model.event.SourcePayloadCaptured;
+import software.spool.core.model.vo.Envelope;
 import software.spool.core.model.vo.IdempotencyKey;
 import software.spool.core.pipeline.ContextKey;
+import software.spool.crawler.api.port.CapturedRecord;
 import software.spool.crawler.internal.utils.TypedDomainMapping;
 import java.util.Optional;
 
@@ -11,7 +13,9 @@ public final class CapturedPayloadKeys {
 
     public static final ContextKey<String> SOURCE_ID = ContextKey.of("sourceId");
     public static final ContextKey<String> PAYLOAD = ContextKey.of("payload");
+    public static final ContextKey<CapturedRecord> RECORD = ContextKey.of("record");
     public static final ContextKey<SourcePayloadCaptured> CAPTURED_EVENT = ContextKey.of("capturedEvent");
     public static final ContextKey<Optional<TypedDomainMapping>> DOMAIN_MAPPING = ContextKey.of("domainMapping");
+    public static final ContextKey<Envelope> ENVELOPE = ContextKey.of("envelope");
     public static final ContextKey<IdempotencyKey> RECEIVED_KEY = ContextKey.of("receivedKey");
 }
\ No newline at end of file
@@ -0,0 +1,149 @@
+package software.spool.crawler.internal.control.steps;
+
+import software.spool.core.exception.DuplicateEventException;
+import software.spool.core.model.vo.Envelope;
+import software.spool.core.pipeline.Pipeline;
+import software.spool.core.pipeline.PipelineContext;
+import software.spool.core.pipeline.Step;
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.port.InboxWriteResult;
+import software.spool.crawler.api.port.InboxWriter;
+import software.spool.crawler.internal.utils.WorkerThreads;
+
+import javax.management.AttributeNotFoundException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers built envelopes and stores them through
+ * {@link InboxWriter#receiveAll} once the batch reaches its size bound or its
+ * oldest entry exceeds the time bound.
+ *
+ * <p>
+ * Each envelope keeps its own outcome: stored ones continue through the
+ * {@code onStored} pipeline, duplicates and failures are dispatched to the
+ * {@link ErrorRouter} individually. Anything still buffered when the poll
+ * cycle ends is written by {@link #flush()}.
+ * </p>
+ *
+ * <p>
+ * A timer thread checks the oldest entry every half {@code maxDelay}, so a
+ * batch is also written when no further record arrives; a zero
+ * {@code maxDelay} sets no time bound and starts no timer. Batches are
+ * drained and written under one lock, so they reach the inbox one at a time
+ * and in the order their records were buffered, whichever thread writes
+ * them. {@link #flush()} therefore waits for a write in progress, and the
+ * cycle only completes once all its envelopes have an outcome.
+ * {@link #close()} writes what is left and stops the timer.
+ * </p>
+ */
+public class EnvelopeBatchStep implements Step<PipelineContext, PipelineContext> {
+    private final InboxWriter inboxWriter;
+    private final Pipeline<PipelineContext, PipelineContext> onStored;
+    private final ErrorRouter errorRouter;
+    private final int maxSize;
+    private final long maxDelayNanos;
+    private final List<PipelineContext> pending;
+    private final ReentrantLock stores;
+    private final ScheduledExecutorService timer;
+    private long oldestNanos;
+
+    public EnvelopeBatchStep(InboxWriter inboxWriter, Pipeline<PipelineContext, PipelineContext> onStored,
+                             ErrorRouter errorRouter, int maxSize, Duration maxDelay) {
+        if (maxSize < 1) throw new IllegalArgumentException("Batch size must be at least 1");
+        this.inboxWriter = inboxWriter;
+        this.onStored = onStored;
+        this.errorRouter = errorRouter;
+        this.maxSize = maxSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.pending = new ArrayList<>(maxSize);
+        this.stores = new ReentrantLock();
+        this.timer = maxDelayNanos > 0 ? startTimer() : null;
+    }
+
+    @Override
+    public PipelineContext apply(PipelineContext ctx) throws AttributeNotFoundException {
+        ctx.require(CapturedPayloadKeys.ENVELOPE);
+        boolean due;
+        synchronized (pending) {
+            if (pending.isEmpty()) oldestNanos = System.nanoTime();
+            pending.add(ctx);
+            due = pending.size() >= maxSize || expired();
+        }
+        if (due) storePending(false);
+        return ctx;
+    }
+
+    /**
+     * Writes the buffered envelopes and returns once every write in progress
+     * has finished.
+     */
+    public void flush() {
+        storePending(false);
+    }
+
+    public void close() {
+        if (timer != null) timer.shutdownNow();
+        flush();
+    }
+
+    private ScheduledExecutorService startTimer() {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+                WorkerThreads.platform("spool-batch-flush"));
+        long period = Math.max(maxDelayNanos / 2, TimeUnit.MILLISECONDS.toNanos(1));
+        scheduler.scheduleWithFixedDelay(() -> storePending(true), period, period, TimeUnit.NANOSECONDS);
+        return scheduler;
+    }
+
+    /**
+     * Drains and writes the buffered envelopes while holding the store lock;
+     * with {@code onlyExpired}, only if the oldest one has waited too long.
+     */
+    private void storePending(boolean onlyExpired) {
+        stores.lock();
+        try {
+            List<PipelineContext> batch;
+            synchronized (pending) {
+                if (pending.isEmpty() || onlyExpired && !expired()) return;
+                batch = List.copyOf(pending);
+                pending.clear();
+            }
+            store(batch);
+        } finally {
+            stores.unlock();
+        }
+    }
+
+    private boolean expired() {
+        return maxDelayNanos > 0 && System.nanoTime() - oldestNanos >= maxDelayNanos;
+    }
+
+    private void store(List<PipelineContext> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            List<Envelope> envelopes = new ArrayList<>(batch.size());
+            for (PipelineContext ctx : batch)
+                envelopes.add(ctx.require(CapturedPayloadKeys.ENVELOPE));
+            List<InboxWriteResult> results = inboxWriter.receiveAll(envelopes);
+            for (int i = 0; i < batch.size(); i++)
+                complete(batch.get(i), results.get(i));
+        } catch (Exception e) {
+            errorRouter.dispatch(e);
+        }
+    }
+
+    private void complete(PipelineContext ctx, InboxWriteResult result) throws AttributeNotFoundException {
+        switch (result.status()) {
+            case STORED -> onStored.execute(ctx.with(CapturedPayloadKeys.RECEIVED_KEY, result.receivedKey()))
+                    .peekError(errorRouter::dispatch);
+            case DUPLICATE -> errorRouter.dispatch(new DuplicateEventException(
+                    ctx.require(CapturedPayloadKeys.CAPTURED_EVENT).idempotencyKey()));
+            case FAILED -> errorRouter.dispatch(result.error());
+        }
+    }
+}
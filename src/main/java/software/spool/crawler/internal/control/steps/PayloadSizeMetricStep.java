@@ -3,12 +3,11 @@ package software.spool.crawler.internal.control.steps;
 import software.spool.core.pipeline.PipelineContext;
 import software.spool.core.pipeline.Step;
 import software.spool.core.port.metrics.MetricsRegistry;
+import software.spool.crawler.internal.utils.Utf8;
 
 import javax.management.AttributeNotFoundException;
 import java.util.Map;
 
-import static java.nio.charset.StandardCharsets.UTF_8;
-
 public class PayloadSizeMetricStep implements Step<PipelineContext, PipelineContext> {
     private final MetricsRegistry.LongHistogramMetric histogram;
 
@@ -19,7 +18,7 @@ public class PayloadSizeMetricStep implements Step<PipelineContext, PipelineCont
     @Override
     public PipelineContext apply(PipelineContext ctx) throws AttributeNotFoundException {
         String payload = ctx.require(CapturedPayloadKeys.PAYLOAD);
-        histogram.record(payload.getBytes(UTF_8).length, Map.of());
+        histogram.record(Utf8.length(payload), Map.of());
         return ctx;
     }
 }
@@ -18,7 +18,7 @@ public class PublishDomainEventStep implements Step<PipelineContext, PipelineCon
     @Override
     public PipelineContext apply(PipelineContext ctx) throws AttributeNotFoundException {
         Optional<TypedDomainMapping> matched = domainEventEmitter.emit(
-                ctx.require(CapturedPayloadKeys.PAYLOAD),
+                ctx.require(CapturedPayloadKeys.RECORD),
                 ctx.require(CapturedPayloadKeys.CAPTURED_EVENT).idempotencyKey());
         return ctx.with(CapturedPayloadKeys.DOMAIN_MAPPING, matched);
     }
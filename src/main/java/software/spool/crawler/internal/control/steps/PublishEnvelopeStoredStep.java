@@ -3,12 +3,10 @@ package software.spool.crawler.internal.control.steps;
 import software.spool.core.model.event.EnvelopeStored;
 import software.spool.core.pipeline.PipelineContext;
 import software.spool.core.pipeline.Step;
-import software.spool.core.port.bus.BrokerMessage;
-import software.spool.core.port.bus.Destination;
 import software.spool.core.port.bus.EventPublisher;
+import software.spool.crawler.internal.utils.EventDestinations;
 
 import javax.management.AttributeNotFoundException;
-import java.util.Map;
 
 public class PublishEnvelopeStoredStep implements Step<PipelineContext, PipelineContext> {
     private final EventPublisher publisher;
@@ -22,9 +20,7 @@ public class PublishEnvelopeStoredStep implements Step<PipelineContext, Pipeline
         EnvelopeStored storedEvent = EnvelopeStored.builder()
                 .from(ctx.require(CapturedPayloadKeys.CAPTURED_EVENT))
                 .build();
-        publisher.publish(
-                new Destination("spool." + storedEvent.getClass().getSimpleName()),
-                new BrokerMessage<>(storedEvent, storedEvent.getClass().getSimpleName(), Map.of()));
+        publisher.publish(EventDestinations.destinationOf(storedEvent.getClass()), EventDestinations.messageOf(storedEvent));
         return ctx;
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package software.spool.crawler.internal.control.steps;
+
+import software.spool.core.exception.DuplicateEventException;
+import software.spool.core.model.vo.IdempotencyKey;
+import software.spool.core.pipeline.PipelineContext;
+import software.spool.core.pipeline.Step;
+import software.spool.core.port.metrics.MetricsRegistry;
+import software.spool.crawler.internal.utils.IdempotencyIndex;
+
+import javax.management.AttributeNotFoundException;
+import java.util.Map;
+
+/**
+ * Drops records whose idempotency key the index already knows, before they
+ * are published or written, and counts each lookup as a {@code hit} or
+ * {@code miss} of the source.
+ */
+public class SkipKnownDuplicateStep implements Step<PipelineContext, PipelineContext> {
+    private final IdempotencyIndex cache;
+    private final MetricsRegistry.LongHistogramMetric lookups;
+    private final Map<String, String> hit;
+    private final Map<String, String> miss;
+
+    public SkipKnownDuplicateStep(IdempotencyIndex cache, String sourceId,
+                                  MetricsRegistry.LongHistogramMetric lookups) {
+        this.cache = cache;
+        this.lookups = lookups;
+        this.hit = Map.of("sourceId", sourceId, "result", "hit");
+        this.miss = Map.of("sourceId", sourceId, "result", "miss");
+    }
+
+    @Override
+    public PipelineContext apply(PipelineContext ctx) throws AttributeNotFoundException {
+        IdempotencyKey key = ctx.require(CapturedPayloadKeys.CAPTURED_EVENT).idempotencyKey();
+        boolean known = cache.contains(key);
+        lookups.record(1, known ? hit : miss);
+        if (known) throw new DuplicateEventException(key);
+        return ctx;
+    }
+}
@@ -0,0 +1,39 @@
+package software.spool.crawler.internal.control.steps;
+
+import software.spool.core.exception.DuplicateEventException;
+import software.spool.core.pipeline.PipelineContext;
+import software.spool.core.pipeline.Step;
+import software.spool.crawler.internal.utils.CrawlerMetrics;
+
+import javax.management.AttributeNotFoundException;
+
+/**
+ * Records the latency and outcome of the wrapped step into its
+ * {@link CrawlerMetrics.StepTimer}; a {@link DuplicateEventException} counts
+ * as a duplicate, not an error.
+ */
+public class TimedStep implements Step<PipelineContext, PipelineContext> {
+    private final Step<PipelineContext, PipelineContext> step;
+    private final CrawlerMetrics.StepTimer timer;
+
+    public TimedStep(Step<PipelineContext, PipelineContext> step, CrawlerMetrics.StepTimer timer) {
+        this.step = step;
+        this.timer = timer;
+    }
+
+    @Override
+    public PipelineContext apply(PipelineContext ctx) throws AttributeNotFoundException {
+        long start = System.nanoTime();
+        try {
+            PipelineContext result = step.apply(ctx);
+            timer.succeeded(System.nanoTime() - start);
+            return result;
+        } catch (DuplicateEventException e) {
+            timer.duplicate(System.nanoTime() - start);
+            throw e;
+        } catch (AttributeNotFoundException | RuntimeException e) {
+            timer.failed(System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
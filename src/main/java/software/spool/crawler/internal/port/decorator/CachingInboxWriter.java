@@ -0,0 +1,60 @@
+package software.spool.crawler.internal.port.decorator;
+
+import software.spool.core.exception.DuplicateEventException;
+import software.spool.core.model.vo.Envelope;
+import software.spool.core.model.vo.IdempotencyKey;
+import software.spool.crawler.api.port.InboxWriteResult;
+import software.spool.crawler.api.port.InboxWriter;
+import software.spool.crawler.internal.utils.IdempotencyIndex;
+
+import java.util.List;
+
+/**
+ * Decorator for {@link InboxWriter} that keeps an {@link IdempotencyIndex} in
+ * sync with the inbox.
+ *
+ * <p>
+ * Keys are remembered once the inbox confirms them, either as stored or as
+ * duplicates, and invalidated when a write fails, so the cache never claims a
+ * key the inbox does not hold.
+ * </p>
+ */
+public class CachingInboxWriter implements InboxWriter {
+    private final InboxWriter inbox;
+    private final IdempotencyIndex cache;
+
+    private CachingInboxWriter(InboxWriter inbox, IdempotencyIndex cache) {
+        this.inbox = inbox;
+        this.cache = cache;
+    }
+
+    public static CachingInboxWriter of(InboxWriter inbox, IdempotencyIndex cache) {
+        return new CachingInboxWriter(inbox, cache);
+    }
+
+    @Override
+    public IdempotencyKey receive(Envelope envelope) {
+        try {
+            IdempotencyKey received = inbox.receive(envelope);
+            cache.remember(envelope.idempotencyKey());
+            return received;
+        } catch (DuplicateEventException e) {
+            cache.remember(envelope.idempotencyKey());
+            throw e;
+        } catch (RuntimeException e) {
+            cache.invalidate(envelope.idempotencyKey());
+            throw e;
+        }
+    }
+
+    @Override
+    public List<InboxWriteResult> receiveAll(List<Envelope> envelopes) {
+        List<InboxWriteResult> results = inbox.receiveAll(envelopes);
+        for (InboxWriteResult result : results) {
+            IdempotencyKey key = result.envelope().idempotencyKey();
+            if (result.status() == InboxWriteResult.Status.FAILED) cache.invalidate(key);
+            else cache.remember(key);
+        }
+        return results;
+    }
+}
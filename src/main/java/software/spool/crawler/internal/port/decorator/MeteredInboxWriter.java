@@ -0,0 +1,73 @@
+package software.spool.crawler.internal.port.decorator;
+
+import software.spool.core.exception.DuplicateEventException;
+import software.spool.core.model.vo.Envelope;
+import software.spool.core.model.vo.IdempotencyKey;
+import software.spool.crawler.api.port.InboxWriteResult;
+import software.spool.crawler.api.port.InboxWriter;
+import software.spool.crawler.internal.utils.CrawlerMetrics;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Decorator for {@link InboxWriter} that records the latency of every write
+ * and how many records were stored, duplicated or failed.
+ */
+public class MeteredInboxWriter implements InboxWriter {
+    private final InboxWriter inbox;
+    private final CrawlerMetrics metrics;
+
+    private MeteredInboxWriter(InboxWriter inbox, CrawlerMetrics metrics) {
+        this.inbox = inbox;
+        this.metrics = metrics;
+    }
+
+    public static MeteredInboxWriter of(InboxWriter inbox, CrawlerMetrics metrics) {
+        return new MeteredInboxWriter(inbox, metrics);
+    }
+
+    @Override
+    public IdempotencyKey receive(Envelope envelope) {
+        long start = System.nanoTime();
+        try {
+            IdempotencyKey received = inbox.receive(envelope);
+            metrics.inboxWrite(System.nanoTime() - start, false);
+            if (Objects.isNull(received)) metrics.inboxResults(0, 1, 0);
+            else metrics.inboxResults(1, 0, 0);
+            return received;
+        } catch (DuplicateEventException e) {
+            metrics.inboxWrite(System.nanoTime() - start, false);
+            metrics.inboxResults(0, 1, 0);
+            throw e;
+        } catch (RuntimeException e) {
+            metrics.inboxWrite(System.nanoTime() - start, false);
+            metrics.inboxResults(0, 0, 1);
+            throw e;
+        }
+    }
+
+    @Override
+    public List<InboxWriteResult> receiveAll(List<Envelope> envelopes) {
+        long start = System.nanoTime();
+        List<InboxWriteResult> results;
+        try {
+            results = inbox.receiveAll(envelopes);
+        } catch (RuntimeException e) {
+            metrics.inboxWrite(System.nanoTime() - start, true);
+            metrics.inboxResults(0, 0, envelopes.size());
+            throw e;
+        }
+        metrics.inboxWrite(System.nanoTime() - start, true);
+        long stored = 0, duplicates = 0, failed = 0;
+        for (InboxWriteResult result : results) {
+            switch (result.status()) {
+                case STORED -> stored++;
+                case DUPLICATE -> duplicates++;
+                case FAILED -> failed++;
+            }
+        }
+        metrics.inboxResults(stored, duplicates, failed);
+        return results;
+    }
+}
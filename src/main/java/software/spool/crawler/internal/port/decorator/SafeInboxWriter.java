@@ -4,8 +4,12 @@ import software.spool.core.exception.InboxWriteException;
 import software.spool.core.exception.SpoolException;
 import software.spool.core.model.vo.IdempotencyKey;
 import software.spool.core.model.vo.Envelope;
+import software.spool.crawler.api.port.InboxWriteResult;
 import software.spool.crawler.api.port.InboxWriter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Decorator for {@link InboxWriter} that normalises unchecked exceptions into
  * typed {@link InboxWriteException} instances.
@@ -42,4 +46,36 @@ public class SafeInboxWriter implements InboxWriter {
             throw new InboxWriteException(e.getMessage(), e);
         }
     }
+
+    @Override
+    public List<InboxWriteResult> receiveAll(List<Envelope> envelopes) {
+        List<InboxWriteResult> results;
+        try {
+            results = inbox.receiveAll(envelopes);
+        } catch (Exception e) {
+            return failAll(envelopes, normalize(e));
+        }
+        if (results == null || results.size() != envelopes.size())
+            return failAll(envelopes, normalize(new IllegalStateException(
+                    "Inbox returned " + (results == null ? 0 : results.size())
+                            + " results for " + envelopes.size() + " envelopes")));
+        List<InboxWriteResult> normalized = new ArrayList<>(results.size());
+        for (InboxWriteResult result : results)
+            normalized.add(result.status() == InboxWriteResult.Status.FAILED
+                    ? InboxWriteResult.failed(result.envelope(), normalize(result.error()))
+                    : result);
+        return normalized;
+    }
+
+    private static List<InboxWriteResult> failAll(List<Envelope> envelopes, SpoolException error) {
+        List<InboxWriteResult> results = new ArrayList<>(envelopes.size());
+        for (Envelope envelope : envelopes)
+            results.add(InboxWriteResult.failed(envelope, error));
+        return results;
+    }
+
+    private static SpoolException normalize(Exception e) {
+        if (e instanceof SpoolException spool) return spool;
+        return new InboxWriteException(e == null ? "Unknown inbox failure" : e.getMessage(), e);
+    }
 }
@@ -2,6 +2,8 @@ package software.spool.crawler.internal.port.decorator;
 
 import software.spool.core.exception.SourcePollException;
 import software.spool.core.exception.SpoolException;
+import software.spool.crawler.api.port.source.IncrementalPoll;
+import software.spool.crawler.api.port.source.IncrementalPollSource;
 import software.spool.crawler.api.port.source.PollSource;
 
 /**
@@ -13,6 +15,9 @@ import software.spool.crawler.api.port.source.PollSource;
  * {@link SpoolException} subclass, it is re-thrown as-is. Any other
  * {@link Exception} is wrapped in a new {@link SourcePollException}. This
  * guarantees the crawler strategy always receives typed exceptions that can be
+ * routed. {@link #open()}, {@link #acknowledge()} and {@link #close()} are
+ * forwarded to the delegate, and an {@link IncrementalPollSource} stays
+ * incremental once wrapped.
  * </p>
  *
  * @param <R> the raw type produced by the wrapped source
@@ -32,9 +37,24 @@ public class SafePollSource<R> implements PollSource<R> {
      * @return a new {@code SafePollSource} instance
      */
     public static <R> SafePollSource<R> of(PollSource<R> source) {
+        if (source instanceof IncrementalPollSource<R> incremental)
+            return new SafeIncrementalPollSource<>(incremental);
         return new SafePollSource<>(source);
     }
 
+    @Override
+    public PollSource<R> open() {
+        PollSource<R> opened;
+        try {
+            opened = source.open();
+        } catch (SpoolException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SourcePollException(sourceId(), e.getMessage(), e);
+        }
+        return opened == source ? this : of(opened);
+    }
+
     @Override
     public R poll() throws SpoolException {
         try {
@@ -46,8 +66,39 @@ public class SafePollSource<R> implements PollSource<R> {
         }
     }
 
+    @Override
+    public void acknowledge() {
+        source.acknowledge();
+    }
+
+    @Override
+    public void close() {
+        source.close();
+    }
+
     @Override
     public String sourceId() {
         return source.sourceId();
     }
+
+    private static final class SafeIncrementalPollSource<R> extends SafePollSource<R>
+            implements IncrementalPollSource<R> {
+        private final IncrementalPollSource<R> incremental;
+
+        private SafeIncrementalPollSource(IncrementalPollSource<R> incremental) {
+            super(incremental);
+            this.incremental = incremental;
+        }
+
+        @Override
+        public IncrementalPoll<R> pollSince(String watermark) throws SpoolException {
+            try {
+                return incremental.pollSince(watermark);
+            } catch (SpoolException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new SourcePollException(sourceId(), e.getMessage(), e);
+            }
+        }
+    }
 }
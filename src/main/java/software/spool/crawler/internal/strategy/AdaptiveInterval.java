@@ -0,0 +1,59 @@
+package software.spool.crawler.internal.strategy;
+
+import software.spool.crawler.api.strategy.CycleOutcome;
+import software.spool.crawler.api.utils.AdaptiveSchedule;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Current polling interval of one source under an {@link AdaptiveSchedule}.
+ *
+ * <p>
+ * {@link #observe} updates the interval from the outcome of a cycle and
+ * {@link #next()} draws the delay until the next one.
+ * </p>
+ */
+public class AdaptiveInterval {
+    private final long minNanos;
+    private final long maxNanos;
+    private final double backoff;
+    private final double speedup;
+    private final double jitter;
+    private volatile long currentNanos;
+
+    public AdaptiveInterval(AdaptiveSchedule schedule) {
+        this.minNanos = schedule.min().toNanos();
+        this.maxNanos = schedule.max().toNanos();
+        this.backoff = schedule.backoff();
+        this.speedup = schedule.speedup();
+        this.jitter = schedule.jitter();
+        this.currentNanos = schedule.initial().toNanos();
+    }
+
+    /**
+     * Lengthens the interval after a cycle that stored nothing new and
+     * shortens it after one that did; skipped cycles leave it unchanged.
+     */
+    public synchronized void observe(CycleOutcome outcome, long newRecords) {
+        if (outcome == CycleOutcome.SKIPPED) return;
+        double factor = outcome == CycleOutcome.COMPLETED && newRecords > 0 ? speedup : backoff;
+        currentNanos = clamp((long) Math.min(Long.MAX_VALUE, currentNanos * factor));
+    }
+
+    /** Returns the current interval with jitter applied, within the bounds. */
+    public Duration next() {
+        long current = currentNanos;
+        if (jitter == 0) return Duration.ofNanos(current);
+        double spread = ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Duration.ofNanos(clamp(current + (long) (current * spread)));
+    }
+
+    public Duration current() {
+        return Duration.ofNanos(currentNanos);
+    }
+
+    private long clamp(long nanos) {
+        return Math.max(minNanos, Math.min(maxNanos, nanos));
+    }
+}
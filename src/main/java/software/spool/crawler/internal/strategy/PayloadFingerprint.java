@@ -0,0 +1,97 @@
+package software.spool.crawler.internal.strategy;
+
+import software.spool.core.port.metrics.MetricsRegistry;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Opt-in polling stage that hashes the raw poll result and reports whether it
+ * is byte-identical to the last successfully processed one.
+ *
+ * <p>
+ * Only in-memory payloads ({@link String} and {@code byte[]}) are
+ * fingerprinted; streamed or cursor-based payloads cannot be hashed without
+ * buffering them and always go through the pipeline.
+ * </p>
+ */
+public class PayloadFingerprint {
+    private static final int CHUNK_CHARS = 4096;
+
+    private final boolean enabled;
+    private final Map<String, String> attributes;
+    private final MetricsRegistry.LongHistogramMetric skippedUnchanged;
+    private volatile byte[] lastCommitted;
+
+    private PayloadFingerprint(boolean enabled, String sourceId, MetricsRegistry.LongHistogramMetric skippedUnchanged) {
+        this.enabled = enabled;
+        this.attributes = enabled ? Map.of("sourceId", sourceId) : Map.of();
+        this.skippedUnchanged = skippedUnchanged;
+    }
+
+    public static PayloadFingerprint disabled() {
+        return new PayloadFingerprint(false, null, null);
+    }
+
+    public static PayloadFingerprint of(String sourceId, MetricsRegistry.LongHistogramMetric skippedUnchanged) {
+        return new PayloadFingerprint(true, sourceId, skippedUnchanged);
+    }
+
+    /**
+     * Computes the fingerprint of the given payload.
+     *
+     * @return the digest, or {@code null} if fingerprinting is disabled or the
+     *         payload type is not supported
+     */
+    public byte[] digest(Object payload) {
+        if (!enabled) return null;
+        if (payload instanceof byte[] raw) return newDigest().digest(raw);
+        if (payload instanceof String raw) return digest(raw);
+        return null;
+    }
+
+    /**
+     * Returns {@code true} and records a skip when the digest matches the last
+     * committed one.
+     */
+    public boolean unchanged(byte[] digest) {
+        if (digest == null || !Arrays.equals(digest, lastCommitted)) return false;
+        skippedUnchanged.record(1, attributes);
+        return true;
+    }
+
+    /**
+     * Marks the digest as the last successfully processed payload. Callers
+     * only commit once every record of the payload was captured, so a
+     * payload that failed is processed again when it is polled again.
+     */
+    public void commit(byte[] digest) {
+        if (digest != null) lastCommitted = digest;
+    }
+
+    private static byte[] digest(String raw) {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(CHUNK_CHARS * Character.BYTES);
+        CharBuffer chars = buffer.asCharBuffer();
+        for (int start = 0; start < raw.length(); start += CHUNK_CHARS) {
+            int end = Math.min(raw.length(), start + CHUNK_CHARS);
+            chars.clear();
+            chars.put(raw, start, end);
+            buffer.clear().limit((end - start) * Character.BYTES);
+            digest.update(buffer);
+        }
+        return digest.digest();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,46 +1,285 @@
 package software.spool.crawler.internal.strategy;
 
+import software.spool.core.adapter.otel.OpenTelemetryMetricsRegistry;
 import software.spool.core.exception.*;
-import software.spool.core.port.bus.Handler;
 import software.spool.core.utils.polling.CancellationToken;
 import software.spool.core.utils.polling.PollingConfiguration;
 import software.spool.core.utils.routing.ErrorRouter;
-import software.spool.crawler.api.strategy.CrawlerStrategy;
-import software.spool.crawler.internal.utils.factory.Normalizer;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.port.PayloadNormalizer;
+import software.spool.crawler.api.strategy.CycleOutcome;
+import software.spool.crawler.api.strategy.PollingStrategy;
+import software.spool.crawler.api.port.source.IncrementalPoll;
+import software.spool.crawler.api.port.source.IncrementalPollSource;
 import software.spool.crawler.api.port.source.PollSource;
+import software.spool.crawler.internal.control.CaptureHandler;
+import software.spool.crawler.internal.utils.CrawlerMetrics;
+import software.spool.crawler.internal.utils.WorkerThreads;
 
 import java.time.Duration;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
-public class PollingCrawlerStrategy<I, P, E, R> implements CrawlerStrategy {
+class PollingCrawlerStrategy<I> implements PollingStrategy {
     private final PollSource<I> source;
-    private final Normalizer<P, E, R> normalizer;
+    private final PayloadNormalizer normalizer;
     private final ErrorRouter errorRouter;
-    private final Handler<String> itemmCapturedHandler;
+    private final CaptureHandler itemmCapturedHandler;
     private final PollingConfiguration pollingConfiguration;
+    private final PayloadFingerprint fingerprint;
+    private final Executor cycleExecutor;
+    private final CrawlerMetrics metrics;
+    private final AdaptiveInterval adaptiveInterval;
+    private final WatermarkCheckpoint checkpoint;
+    private final AtomicBoolean running;
+    private boolean closed;
 
-    public PollingCrawlerStrategy(PollSource<I> source, Normalizer<P, E, R> normalizer,
-                                  Handler<String> itemmCapturedHandler,
-                                  PollingConfiguration pollingConfiguration, ErrorRouter errorRouter) {
+    PollingCrawlerStrategy(PollSource<I> source, PayloadNormalizer normalizer,
+                           CaptureHandler itemmCapturedHandler,
+                           PollingConfiguration pollingConfiguration, ErrorRouter errorRouter) {
+        this(source, normalizer, itemmCapturedHandler, pollingConfiguration, errorRouter,
+                PayloadFingerprint.disabled(), Runnable::run);
+    }
+
+    /**
+     * @param cycleExecutor runs each scheduled poll cycle; a tick is skipped
+     *                      while the previous cycle is still running
+     */
+    PollingCrawlerStrategy(PollSource<I> source, PayloadNormalizer normalizer,
+                           CaptureHandler itemmCapturedHandler,
+                           PollingConfiguration pollingConfiguration, ErrorRouter errorRouter,
+                           PayloadFingerprint fingerprint, Executor cycleExecutor) {
+        this(source, normalizer, itemmCapturedHandler, pollingConfiguration, errorRouter, fingerprint, cycleExecutor,
+                CrawlerMetrics.of(source.sourceId(), new OpenTelemetryMetricsRegistry()));
+    }
+
+    /**
+     * @param metrics instruments of this source, recording poll duration,
+     *                bytes fetched, records per poll and normalize time
+     */
+    PollingCrawlerStrategy(PollSource<I> source, PayloadNormalizer normalizer,
+                           CaptureHandler itemmCapturedHandler,
+                           PollingConfiguration pollingConfiguration, ErrorRouter errorRouter,
+                           PayloadFingerprint fingerprint, Executor cycleExecutor, CrawlerMetrics metrics) {
+        this(source, normalizer, itemmCapturedHandler, pollingConfiguration, errorRouter, fingerprint, cycleExecutor,
+                metrics, null, WatermarkCheckpoint.of(source.sourceId(), null, null));
+    }
+
+    /**
+     * @param adaptiveInterval when set, replaces {@code pollingConfiguration}:
+     *                         each cycle is scheduled once the previous one
+     *                         has finished, after the interval it picks
+     * @param checkpoint       watermark of an {@link IncrementalPollSource},
+     *                         committed after a cycle without failures
+     */
+    PollingCrawlerStrategy(PollSource<I> source, PayloadNormalizer normalizer,
+                           CaptureHandler itemmCapturedHandler,
+                           PollingConfiguration pollingConfiguration, ErrorRouter errorRouter,
+                           PayloadFingerprint fingerprint, Executor cycleExecutor, CrawlerMetrics metrics,
+                           AdaptiveInterval adaptiveInterval, WatermarkCheckpoint checkpoint) {
         this.source = Objects.requireNonNull(source);
         this.normalizer = Objects.requireNonNull(normalizer);
         this.errorRouter = Objects.requireNonNull(errorRouter);
         this.itemmCapturedHandler = Objects.requireNonNull(itemmCapturedHandler);
         this.pollingConfiguration = Objects.requireNonNullElse(pollingConfiguration,
                 PollingConfiguration.every(Duration.ofSeconds(10)));
+        this.fingerprint = Objects.requireNonNull(fingerprint);
+        this.cycleExecutor = Objects.requireNonNull(cycleExecutor);
+        this.metrics = Objects.requireNonNull(metrics);
+        this.adaptiveInterval = adaptiveInterval;
+        this.checkpoint = Objects.requireNonNull(checkpoint);
+        this.running = new AtomicBoolean();
     }
 
     @Override
     public void execute(CancellationToken token) throws SpoolException {
+        if (Objects.nonNull(adaptiveInterval)) {
+            ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+                    WorkerThreads.platform("spool-schedule-" + source.sourceId()));
+            scheduleAdaptive(timer, token, Duration.ZERO);
+            return;
+        }
         pollingConfiguration.scheduler().schedule(
-                () -> { try (PollSource<I> openedSource = this.source.open()) {
-                        normalizer.transform(openedSource.poll())
-                            .takeWhile(p -> token.isActive())
-                            .forEach(itemmCapturedHandler::handle);
-                    } catch (Exception e) { errorRouter.dispatch(e); }
-                },
+                () -> { if (!running.get()) submitCycle(token); },
                 pollingConfiguration.policy(),
                 token
         );
     }
+
+    @Override
+    public CycleOutcome runOnce(CancellationToken token) {
+        synchronized (running) {
+            if (closed || !running.compareAndSet(false, true)) return CycleOutcome.SKIPPED;
+        }
+        try {
+            long storedBefore = metrics.storedRecords();
+            CycleOutcome outcome = runCycle(token);
+            if (Objects.nonNull(adaptiveInterval))
+                adaptiveInterval.observe(outcome, metrics.storedRecords() - storedBefore);
+            return outcome;
+        } finally {
+            synchronized (running) {
+                running.set(false);
+                running.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits for the running cycle, which ends at its next record once the
+     * token is cancelled, then closes the capture handler.
+     */
+    @Override
+    public void close() {
+        synchronized (running) {
+            if (closed) return;
+            closed = true;
+            try {
+                while (running.get()) running.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        itemmCapturedHandler.close();
+    }
+
+    @Override
+    public String sourceId() {
+        return source.sourceId();
+    }
+
+    @Override
+    public Duration nextInterval() {
+        if (Objects.isNull(adaptiveInterval)) return null;
+        Duration next = adaptiveInterval.next();
+        metrics.intervalChosen(next);
+        return next;
+    }
+
+    private void scheduleAdaptive(ScheduledExecutorService timer, CancellationToken token, Duration delay) {
+        if (!token.isActive()) {
+            timer.shutdown();
+            return;
+        }
+        try {
+            timer.schedule(() -> submitAdaptiveCycle(timer, token), delay.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            timer.shutdown();
+        }
+    }
+
+    private void submitAdaptiveCycle(ScheduledExecutorService timer, CancellationToken token) {
+        if (!token.isActive()) {
+            timer.shutdown();
+            return;
+        }
+        try {
+            cycleExecutor.execute(() -> {
+                try {
+                    runOnce(token);
+                } finally {
+                    scheduleAdaptive(timer, token, nextInterval());
+                }
+            });
+        } catch (Exception e) {
+            errorRouter.dispatch(e);
+            scheduleAdaptive(timer, token, nextInterval());
+        }
+    }
+
+    private void submitCycle(CancellationToken token) {
+        try {
+            cycleExecutor.execute(() -> runOnce(token));
+        } catch (Exception e) {
+            errorRouter.dispatch(e);
+        }
+    }
+
+    private CycleOutcome runCycle(CancellationToken token) {
+        long start = System.nanoTime();
+        CycleOutcome outcome = pollAndProcess(token);
+        metrics.pollFinished(outcome, System.nanoTime() - start);
+        return outcome;
+    }
+
+    private CycleOutcome pollAndProcess(CancellationToken token) {
+        try (PollSource<I> openedSource = this.source.open()) {
+            if (openedSource instanceof IncrementalPollSource<I> incremental)
+                return pollIncrement(incremental, token);
+            I payload = openedSource.poll();
+            if (Objects.isNull(payload)) return CycleOutcome.UNCHANGED;
+            metrics.fetched(payload);
+            long failuresBefore = metrics.failures();
+            CycleOutcome outcome = process(payload, token, false);
+            if (succeeded(outcome, failuresBefore, token)) openedSource.acknowledge();
+            return outcome;
+        } catch (Exception e) {
+            errorRouter.dispatch(e);
+            return CycleOutcome.FAILED;
+        }
+    }
+
+    /**
+     * Polls the delta since the committed watermark and commits the new one
+     * once the cycle completed without a failed step or inbox write.
+     */
+    private CycleOutcome pollIncrement(IncrementalPollSource<I> incremental, CancellationToken token) {
+        IncrementalPoll<I> delta = incremental.pollSince(checkpoint.last());
+        if (Objects.isNull(delta) || Objects.isNull(delta.payload())) return CycleOutcome.UNCHANGED;
+        metrics.fetched(delta.payload());
+        long failuresBefore = metrics.failures();
+        CycleOutcome outcome = process(delta.payload(), token, true);
+        if (succeeded(outcome, failuresBefore, token)) {
+            checkpoint.commit(delta.watermark());
+            incremental.acknowledge();
+        }
+        return outcome;
+    }
+
+    /**
+     * Returns {@code true} when the cycle ran to the end without a failed step
+     * or inbox write, so the source state it consumed can be committed.
+     */
+    private boolean succeeded(CycleOutcome outcome, long failuresBefore, CancellationToken token) {
+        return outcome == CycleOutcome.COMPLETED && token.isActive() && metrics.failures() == failuresBefore;
+    }
+
+    private CycleOutcome process(I payload, CancellationToken token, boolean incremental) {
+        byte[] digest = fingerprint.digest(payload);
+        if (fingerprint.unchanged(digest)) return CycleOutcome.UNCHANGED;
+        long failuresBefore = metrics.failures();
+        long storedBefore = metrics.storedRecords();
+        long start = System.nanoTime();
+        long handling = 0;
+        long count = 0;
+        long normalizing;
+        boolean tracking = incremental && checkpoint.tracksRecords();
+        checkpoint.startCycle();
+        try (Stream<CapturedRecord> records = normalizer.records(payload)) {
+            Iterator<CapturedRecord> iterator = records.iterator();
+            while (token.isActive() && iterator.hasNext()) {
+                CapturedRecord record = iterator.next();
+                if (tracking) checkpoint.observe(record);
+                long handleStart = System.nanoTime();
+                itemmCapturedHandler.handle(record);
+                handling += System.nanoTime() - handleStart;
+                count++;
+            }
+            normalizing = System.nanoTime() - start - handling;
+        } finally {
+            itemmCapturedHandler.complete();
+        }
+        metrics.normalized(count, normalizing);
+        if (metrics.failures() != failuresBefore)
+            return metrics.storedRecords() == storedBefore ? CycleOutcome.FAILED : CycleOutcome.PARTIAL;
+        if (token.isActive()) fingerprint.commit(digest);
+        return CycleOutcome.COMPLETED;
+    }
 }
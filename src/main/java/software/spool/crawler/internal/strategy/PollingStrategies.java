@@ -0,0 +1,37 @@
+package software.spool.crawler.internal.strategy;
+
+import software.spool.core.utils.polling.PollingConfiguration;
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.port.PayloadNormalizer;
+import software.spool.crawler.api.port.source.PollSource;
+import software.spool.crawler.api.strategy.PollingStrategy;
+import software.spool.crawler.internal.control.CaptureHandler;
+import software.spool.crawler.internal.utils.CrawlerMetrics;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Creates the {@link PollingStrategy} of a polled source; the implementation
+ * stays private to this package.
+ */
+public final class PollingStrategies {
+    private PollingStrategies() {}
+
+    /**
+     * @param cycleExecutor    runs each scheduled poll cycle; a tick is
+     *                         skipped while the previous cycle is still running
+     * @param adaptiveInterval when set, replaces {@code pollingConfiguration}:
+     *                         each cycle is scheduled once the previous one
+     *                         has finished, after the interval it picks
+     * @param checkpoint       watermark of an incremental source, committed
+     *                         after a cycle without failures
+     */
+    public static <I> PollingStrategy of(PollSource<I> source, PayloadNormalizer normalizer, CaptureHandler handler,
+                                         PollingConfiguration pollingConfiguration, ErrorRouter errorRouter,
+                                         PayloadFingerprint fingerprint, Executor cycleExecutor,
+                                         CrawlerMetrics metrics, AdaptiveInterval adaptiveInterval,
+                                         WatermarkCheckpoint checkpoint) {
+        return new PollingCrawlerStrategy<>(source, normalizer, handler, pollingConfiguration, errorRouter,
+                fingerprint, cycleExecutor, metrics, adaptiveInterval, checkpoint);
+    }
+}
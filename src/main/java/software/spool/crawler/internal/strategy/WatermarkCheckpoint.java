@@ -0,0 +1,90 @@
+package software.spool.crawler.internal.strategy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.port.CheckpointStore;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Watermark of one incremental source: the last committed value, and the
+ * highest value seen in the records of the running cycle when the watermark
+ * is derived from a record field.
+ *
+ * <p>
+ * Values compare numerically when both are numbers and as strings otherwise,
+ * which also orders ISO-8601 timestamps. Without a {@link CheckpointStore}
+ * the watermark is only kept in memory.
+ * </p>
+ */
+public class WatermarkCheckpoint {
+    private final String sourceId;
+    private final CheckpointStore store;
+    private final String fieldPointer;
+    private volatile boolean loaded;
+    private volatile String committed;
+    private String highest;
+
+    private WatermarkCheckpoint(String sourceId, CheckpointStore store, String fieldPointer) {
+        this.sourceId = sourceId;
+        this.store = store;
+        this.fieldPointer = fieldPointer;
+    }
+
+    /**
+     * @param store        where watermarks are persisted, or {@code null} to
+     *                     keep them in memory
+     * @param fieldPointer JSON pointer of the record field the watermark is
+     *                     derived from, or {@code null} if the source
+     *                     supplies it
+     */
+    public static WatermarkCheckpoint of(String sourceId, CheckpointStore store, String fieldPointer) {
+        return new WatermarkCheckpoint(sourceId, store, fieldPointer);
+    }
+
+    /** Returns the last committed watermark, loading it on first use. */
+    public String last() {
+        if (!loaded) {
+            if (Objects.nonNull(store)) committed = store.load(sourceId).orElse(null);
+            loaded = true;
+        }
+        return committed;
+    }
+
+    public void startCycle() {
+        highest = null;
+    }
+
+    public boolean tracksRecords() {
+        return Objects.nonNull(fieldPointer);
+    }
+
+    /** Keeps the highest value of the watermark field seen in this cycle. */
+    public void observe(CapturedRecord record) {
+        JsonNode value = record.tree().at(fieldPointer);
+        if (value.isMissingNode() || value.isNull()) return;
+        String candidate = value.asText();
+        if (Objects.isNull(highest) || compare(candidate, highest) > 0) highest = candidate;
+    }
+
+    /**
+     * Commits the watermark supplied by the source, or else the highest one
+     * observed in the records; does nothing when neither exists.
+     */
+    public void commit(String supplied) {
+        String watermark = Objects.nonNull(supplied) ? supplied : highest;
+        if (Objects.isNull(watermark)) return;
+        if (Objects.nonNull(store)) store.commit(sourceId, watermark);
+        committed = watermark;
+        loaded = true;
+    }
+
+    private static int compare(String a, String b) {
+        try {
+            return new BigDecimal(a).compareTo(new BigDecimal(b));
+        } catch (NumberFormatException e) {
+            return a.compareTo(b);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package software.spool.crawler.internal.utils;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random version 4 UUID strings from {@link ThreadLocalRandom}.
+ *
+ * <p>
+ * Unlike {@link UUID#randomUUID()} this never touches the shared
+ * {@code SecureRandom}, so it neither contends between threads nor blocks on
+ * entropy. The ids are unique in practice but not unpredictable, which is all
+ * a correlation id needs.
+ * </p>
+ */
+public final class CorrelationIds {
+    private CorrelationIds() {}
+
+    public static String next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb).toString();
+    }
+}
@@ -0,0 +1,228 @@
+package software.spool.crawler.internal.utils;
+
+import software.spool.core.port.metrics.MetricsRegistry;
+import software.spool.crawler.api.strategy.CycleOutcome;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Instruments of one crawler source, created once when the crawler is built.
+ *
+ * <p>
+ * Every attribute set is prepared up front as well, so recording on the hot
+ * path is a clock read and a histogram update. All instruments carry a
+ * {@code sourceId} attribute:
+ * </p>
+ * <ul>
+ * <li>{@code spool.crawler.poll.duration} (ms, {@code outcome}): whole poll
+ * cycle.</li>
+ * <li>{@code spool.crawler.poll.interval} (ms): delay until the next poll,
+ * recorded each time an adaptive schedule picks one.</li>
+ * <li>{@code spool.crawler.poll.bytes} (By): size of the fetched payload, when
+ * it is a {@code String} or {@code byte[]}.</li>
+ * <li>{@code spool.crawler.poll.records} ({record}): records per poll.</li>
+ * <li>{@code spool.crawler.normalize.duration} (ms): time the normalizer spent
+ * producing the records of a poll, handling excluded.</li>
+ * <li>{@code spool.crawler.step.duration} (us, {@code step},
+ * {@code outcome}): each capture step, {@code outcome} being {@code ok},
+ * {@code duplicate} or {@code error}.</li>
+ * <li>{@code spool.crawler.inbox.write.duration} (us, {@code mode}): one
+ * {@code receive} or {@code receiveAll} call.</li>
+ * <li>{@code spool.crawler.inbox.writes} ({record}, {@code result}): records
+ * stored, duplicated or failed. Each write call records one sample per
+ * result, valued at its number of records (1 for {@code receive}, up to the
+ * batch size for {@code receiveAll}), so read the histogram sum, not its
+ * count; the duplicate ratio is {@code sum(duplicate) / sum(all)}.</li>
+ * <li>{@code spool.crawler.publish.failures} ({event}, {@code step}): events
+ * the bus rejected, one sample of 1 per event.</li>
+ * <li>{@code spool.crawler.records.inflight} ({record}): records accepted but
+ * not yet handled, sampled as each record arrives.</li>
+ * </ul>
+ */
+public final class CrawlerMetrics {
+    private final String sourceId;
+    private final Map<String, String> sourceAttributes;
+    private final Map<CycleOutcome, Map<String, String>> outcomeAttributes;
+    private final MetricsRegistry.LongHistogramMetric pollDuration;
+    private final MetricsRegistry.LongHistogramMetric pollInterval;
+    private final MetricsRegistry.LongHistogramMetric pollBytes;
+    private final MetricsRegistry.LongHistogramMetric pollRecords;
+    private final MetricsRegistry.LongHistogramMetric normalizeDuration;
+    private final MetricsRegistry.LongHistogramMetric stepDuration;
+    private final MetricsRegistry.LongHistogramMetric publishFailures;
+    private final MetricsRegistry.LongHistogramMetric inboxDuration;
+    private final MetricsRegistry.LongHistogramMetric inboxWrites;
+    private final MetricsRegistry.LongHistogramMetric inFlightRecords;
+    private final Map<String, String> singleWrite;
+    private final Map<String, String> batchWrite;
+    private final Map<String, String> stored;
+    private final Map<String, String> duplicated;
+    private final Map<String, String> failed;
+    private final AtomicLong inFlight;
+    private final LongAdder storedTotal;
+    private final LongAdder failureTotal;
+
+    private CrawlerMetrics(String sourceId, MetricsRegistry registry) {
+        this.sourceId = sourceId;
+        this.sourceAttributes = Map.of("sourceId", sourceId);
+        this.outcomeAttributes = new EnumMap<>(CycleOutcome.class);
+        for (CycleOutcome outcome : CycleOutcome.values())
+            outcomeAttributes.put(outcome, Map.of("sourceId", sourceId, "outcome", outcome.name().toLowerCase()));
+        this.pollDuration = registry.histogram("spool.crawler.poll.duration", "", "ms");
+        this.pollInterval = registry.histogram("spool.crawler.poll.interval", "", "ms");
+        this.pollBytes = registry.histogram("spool.crawler.poll.bytes", "", "By");
+        this.pollRecords = registry.histogram("spool.crawler.poll.records", "", "{record}");
+        this.normalizeDuration = registry.histogram("spool.crawler.normalize.duration", "", "ms");
+        this.stepDuration = registry.histogram("spool.crawler.step.duration", "", "us");
+        this.publishFailures = registry.histogram("spool.crawler.publish.failures", "", "{event}");
+        this.inboxDuration = registry.histogram("spool.crawler.inbox.write.duration", "", "us");
+        this.inboxWrites = registry.histogram("spool.crawler.inbox.writes", "", "{record}");
+        this.inFlightRecords = registry.histogram("spool.crawler.records.inflight", "", "{record}");
+        this.singleWrite = Map.of("sourceId", sourceId, "mode", "single");
+        this.batchWrite = Map.of("sourceId", sourceId, "mode", "batch");
+        this.stored = Map.of("sourceId", sourceId, "result", "stored");
+        this.duplicated = Map.of("sourceId", sourceId, "result", "duplicate");
+        this.failed = Map.of("sourceId", sourceId, "result", "failed");
+        this.inFlight = new AtomicLong();
+        this.storedTotal = new LongAdder();
+        this.failureTotal = new LongAdder();
+    }
+
+    public static CrawlerMetrics of(String sourceId, MetricsRegistry registry) {
+        return new CrawlerMetrics(sourceId, registry);
+    }
+
+    public String sourceId() {
+        return sourceId;
+    }
+
+    public void pollFinished(CycleOutcome outcome, long nanos) {
+        pollDuration.record(TimeUnit.NANOSECONDS.toMillis(nanos), outcomeAttributes.get(outcome));
+    }
+
+    public void intervalChosen(Duration interval) {
+        pollInterval.record(interval.toMillis(), sourceAttributes);
+    }
+
+    /**
+     * Records the size of an in-memory payload; other payload types are
+     * streamed and not measured.
+     */
+    public void fetched(Object payload) {
+        if (payload instanceof byte[] raw) pollBytes.record(raw.length, sourceAttributes);
+        else if (payload instanceof String raw) pollBytes.record(Utf8.length(raw), sourceAttributes);
+    }
+
+    public void normalized(long records, long nanos) {
+        pollRecords.record(records, sourceAttributes);
+        normalizeDuration.record(TimeUnit.NANOSECONDS.toMillis(nanos), sourceAttributes);
+    }
+
+    /**
+     * Returns the timer of the given capture step; {@code publishing} steps,
+     * whose only failing call is the bus, also count their failures as
+     * rejected events.
+     */
+    public StepTimer step(String name, boolean publishing) {
+        return new StepTimer(name, publishing);
+    }
+
+    /**
+     * Returns the callback counting an event the bus rejected in the given
+     * step, for steps that can also fail before publishing.
+     */
+    public Runnable publishRejected(String step) {
+        Map<String, String> attributes = Map.of("sourceId", sourceId, "step", step);
+        return () -> publishFailures.record(1, attributes);
+    }
+
+    public void inboxWrite(long nanos, boolean batch) {
+        inboxDuration.record(TimeUnit.NANOSECONDS.toMicros(nanos), batch ? batchWrite : singleWrite);
+    }
+
+    /**
+     * Records the results of one write call, one sample per result valued at
+     * its number of records.
+     */
+    public void inboxResults(long storedCount, long duplicateCount, long failedCount) {
+        if (storedCount > 0) {
+            inboxWrites.record(storedCount, stored);
+            storedTotal.add(storedCount);
+        }
+        if (duplicateCount > 0) inboxWrites.record(duplicateCount, duplicated);
+        if (failedCount > 0) {
+            inboxWrites.record(failedCount, failed);
+            failureTotal.add(failedCount);
+        }
+    }
+
+    /** Number of records the inbox has stored for this source so far. */
+    public long storedRecords() {
+        return storedTotal.sum();
+    }
+
+    /**
+     * Number of failed capture steps, failed inbox writes and dropped records
+     * for this source so far.
+     */
+    public long failures() {
+        return failureTotal.sum();
+    }
+
+    /**
+     * Counts records lost before reaching the pipeline, e.g. by an overflow
+     * policy, as failures, so the cycle they belong to is not committed.
+     */
+    public void recordsDropped(long count) {
+        failureTotal.add(count);
+    }
+
+    public void recordAccepted() {
+        inFlightRecords.record(inFlight.incrementAndGet(), sourceAttributes);
+    }
+
+    public void recordHandled() {
+        inFlight.decrementAndGet();
+    }
+
+    /**
+     * Clears the in-flight count once a cycle has drained, so records dropped
+     * on the way (e.g. by an overflow policy) do not accumulate.
+     */
+    public void cycleDrained() {
+        inFlight.set(0);
+    }
+
+    public final class StepTimer {
+        private final Map<String, String> ok;
+        private final Map<String, String> duplicate;
+        private final Map<String, String> error;
+        private final Map<String, String> rejected;
+
+        private StepTimer(String step, boolean publishing) {
+            this.ok = Map.of("sourceId", sourceId, "step", step, "outcome", "ok");
+            this.duplicate = Map.of("sourceId", sourceId, "step", step, "outcome", "duplicate");
+            this.error = Map.of("sourceId", sourceId, "step", step, "outcome", "error");
+            this.rejected = publishing ? Map.of("sourceId", sourceId, "step", step) : null;
+        }
+
+        public void succeeded(long nanos) {
+            stepDuration.record(TimeUnit.NANOSECONDS.toMicros(nanos), ok);
+        }
+
+        public void duplicate(long nanos) {
+            stepDuration.record(TimeUnit.NANOSECONDS.toMicros(nanos), duplicate);
+        }
+
+        public void failed(long nanos) {
+            stepDuration.record(TimeUnit.NANOSECONDS.toMicros(nanos), error);
+            failureTotal.increment();
+            if (rejected != null) publishFailures.record(1, rejected);
+        }
+    }
+}
@@ -1,35 +1,165 @@
 package software.spool.crawler.internal.utils;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
 import software.spool.core.exception.DeserializationException;
 import software.spool.core.exception.SerializationException;
 import software.spool.core.model.Event;
 import software.spool.core.model.vo.IdempotencyKey;
-import software.spool.core.port.bus.BrokerMessage;
-import software.spool.core.port.bus.Destination;
 import software.spool.core.port.bus.EventPublisher;
+import software.spool.crawler.api.port.CapturedRecord;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
+/**
+ * Maps each captured record to its domain event and publishes it.
+ *
+ * <p>
+ * Mappings declared with a {@link software.spool.crawler.api.utils.Discriminator}
+ * are selected with one hash lookup per distinct pointer, using the record's
+ * parsed tree when the normalizer provided one and otherwise reading only the
+ * tokens up to the discriminating field. Records no discriminator matches are
+ * tried against the mappings declared without one, in declaration order, or
+ * against every mapping when the trial fallback is enabled.
+ * </p>
+ *
+ * <p>
+ * {@link #onPublishFailure} returns an emitter that also reports every event
+ * the bus rejects, apart from records no mapping matched.
+ * </p>
+ */
 public class DomainEventEmitter {
+    private static final JsonFactory JSON = new JsonFactory();
+
     private final EventPublisher bus;
-    private final List<TypedDomainMapping> domainMappings;
+    private final Map<JsonPointer, Map<String, TypedDomainMapping>> routes;
+    private final List<TypedDomainMapping> trialMappings;
+    private final List<String> sharedTrialAttributes;
+    private final Runnable publishFailed;
 
     public DomainEventEmitter(EventPublisher bus, List<TypedDomainMapping> domainMappings) {
+        this(bus, domainMappings, false);
+    }
+
+    public DomainEventEmitter(EventPublisher bus, List<TypedDomainMapping> domainMappings, boolean trialFallback) {
         this.bus = bus;
-        this.domainMappings = domainMappings;
+        this.routes = new LinkedHashMap<>();
+        for (TypedDomainMapping mapping : domainMappings) {
+            if (Objects.isNull(mapping.discriminator())) continue;
+            routes.computeIfAbsent(JsonPointer.compile(mapping.discriminator().pointer()), p -> new HashMap<>())
+                    .put(mapping.discriminator().value(), mapping);
+        }
+        this.trialMappings = trialFallback
+                ? List.copyOf(domainMappings)
+                : domainMappings.stream().filter(m -> Objects.isNull(m.discriminator())).toList();
+        this.sharedTrialAttributes = sharedAttributes(trialMappings);
+        this.publishFailed = () -> {};
+    }
+
+    private DomainEventEmitter(DomainEventEmitter emitter, Runnable publishFailed) {
+        this.bus = emitter.bus;
+        this.routes = emitter.routes;
+        this.trialMappings = emitter.trialMappings;
+        this.sharedTrialAttributes = emitter.sharedTrialAttributes;
+        this.publishFailed = publishFailed;
+    }
+
+    /**
+     * Returns the same emitter, running {@code publishFailed} each time
+     * {@link EventPublisher#publish} throws.
+     */
+    public DomainEventEmitter onPublishFailure(Runnable publishFailed) {
+        return new DomainEventEmitter(this, Objects.requireNonNull(publishFailed));
+    }
+
+    /**
+     * Returns the mapping the record is routed to by its discriminator, or
+     * the only mapping it can be tried against; {@code null} when several
+     * trial mappings remain and only deserializing would tell.
+     */
+    public TypedDomainMapping mappingOf(CapturedRecord record) {
+        TypedDomainMapping routed = route(record);
+        if (Objects.nonNull(routed)) return routed;
+        return trialMappings.size() == 1 ? trialMappings.get(0) : null;
+    }
+
+    /**
+     * Returns the partition attributes every trial mapping declares, or
+     * {@code null} when none of them declares any.
+     */
+    public List<String> sharedTrialAttributes() {
+        return sharedTrialAttributes;
+    }
+
+    private static List<String> sharedAttributes(List<TypedDomainMapping> mappings) {
+        if (mappings.stream().allMatch(m -> m.partitionAttributes().isEmpty())) return null;
+        List<String> shared = new ArrayList<>(mappings.get(0).partitionAttributes());
+        mappings.forEach(m -> shared.retainAll(m.partitionAttributes()));
+        return List.copyOf(shared);
     }
 
     public Optional<TypedDomainMapping> emit(String payload, IdempotencyKey idempotencyKey) {
-        if (domainMappings.isEmpty()) return Optional.empty();
-        for (TypedDomainMapping typed : domainMappings) {
+        return emit(CapturedRecord.of(payload), idempotencyKey);
+    }
+
+    public Optional<TypedDomainMapping> emit(CapturedRecord record, IdempotencyKey idempotencyKey) {
+        if (routes.isEmpty() && trialMappings.isEmpty()) return Optional.empty();
+        String payload = record.payload();
+        TypedDomainMapping routed = route(record);
+        if (Objects.nonNull(routed)) {
+            publish(routed.mapping().resolve(payload, idempotencyKey));
+            return Optional.of(routed);
+        }
+        for (TypedDomainMapping typed : trialMappings) {
             try {
-                Event event = typed.mapping().resolve(payload, idempotencyKey);
-                bus.publish(new Destination("spool." + event.getClass().getSimpleName()), new BrokerMessage<>(event, event.getClass().getSimpleName(), Map.of()));
+                publish(typed.mapping().resolve(payload, idempotencyKey));
                 return Optional.of(typed);
             } catch (DeserializationException | SerializationException ignored) {}
         }
         throw new DeserializationException(payload, "No matching domain event mapper found");
     }
+
+    private TypedDomainMapping route(CapturedRecord record) {
+        JsonNode tree = record.parsedTree();
+        for (Map.Entry<JsonPointer, Map<String, TypedDomainMapping>> route : routes.entrySet()) {
+            String value = Objects.isNull(tree)
+                    ? valueAt(record.payload(), route.getKey())
+                    : valueAt(tree, route.getKey());
+            TypedDomainMapping mapping = Objects.isNull(value) ? null : route.getValue().get(value);
+            if (Objects.nonNull(mapping)) return mapping;
+        }
+        return null;
+    }
+
+    private static String valueAt(JsonNode tree, JsonPointer pointer) {
+        JsonNode value = tree.at(pointer);
+        return value.isValueNode() ? value.asText() : null;
+    }
+
+    private static String valueAt(String payload, JsonPointer pointer) {
+        try (JsonParser parser = JSON.createParser(payload)) {
+            if (!JsonPointers.moveTo(parser, pointer) || !parser.currentToken().isScalarValue()) return null;
+            return parser.getText();
+        } catch (IOException e) {
+            throw new DeserializationException(payload, e.getMessage());
+        }
+    }
+
+    private void publish(Event event) {
+        try {
+            bus.publish(EventDestinations.destinationOf(event.getClass()), EventDestinations.messageOf(event));
+        } catch (RuntimeException e) {
+            publishFailed.run();
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package software.spool.crawler.internal.utils;
+
+import software.spool.core.port.bus.BrokerMessage;
+import software.spool.core.port.bus.Destination;
+
+import java.util.Map;
+
+/**
+ * Per-event-class {@link Destination} and message type, computed once per
+ * class instead of concatenated for every published record.
+ */
+public final class EventDestinations {
+    private static final ClassValue<Destination> DESTINATIONS = new ClassValue<>() {
+        @Override
+        protected Destination computeValue(Class<?> type) {
+            return new Destination("spool." + type.getSimpleName());
+        }
+    };
+
+    private EventDestinations() {}
+
+    public static Destination destinationOf(Class<?> eventType) {
+        return DESTINATIONS.get(eventType);
+    }
+
+    public static <E> BrokerMessage<E> messageOf(E event) {
+        return new BrokerMessage<>(event, event.getClass().getSimpleName(), Map.of());
+    }
+}
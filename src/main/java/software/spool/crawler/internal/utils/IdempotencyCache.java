@@ -0,0 +1,49 @@
+package software.spool.crawler.internal.utils;
+
+import software.spool.core.model.vo.IdempotencyKey;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Size-bounded LRU set of idempotency keys already known to the inbox, with an
+ * optional time-to-live per entry.
+ */
+public class IdempotencyCache implements IdempotencyIndex {
+    private final long ttlNanos;
+    private final LinkedHashMap<String, Long> entries;
+
+    public IdempotencyCache(int maxEntries, Duration ttl) {
+        if (maxEntries < 1) throw new IllegalArgumentException("maxEntries must be at least 1");
+        this.ttlNanos = Objects.isNull(ttl) ? 0 : ttl.toNanos();
+        this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1 << 16), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized boolean contains(IdempotencyKey key) {
+        Long storedAt = entries.get(key.value());
+        if (storedAt == null) return false;
+        if (ttlNanos > 0 && System.nanoTime() - storedAt > ttlNanos) {
+            entries.remove(key.value());
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void remember(IdempotencyKey key) {
+        entries.put(key.value(), System.nanoTime());
+    }
+
+    @Override
+    public synchronized void invalidate(IdempotencyKey key) {
+        entries.remove(key.value());
+    }
+}
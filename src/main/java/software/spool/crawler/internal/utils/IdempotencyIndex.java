@@ -0,0 +1,44 @@
+package software.spool.crawler.internal.utils;
+
+import software.spool.core.model.vo.IdempotencyKey;
+
+/**
+ * Set of idempotency keys already confirmed by the inbox, consulted before a
+ * record enters the capture pipeline.
+ */
+public interface IdempotencyIndex {
+    boolean contains(IdempotencyKey key);
+
+    void remember(IdempotencyKey key);
+
+    void invalidate(IdempotencyKey key);
+
+    /**
+     * Combines a fast index with a larger or persistent one. Lookups try
+     * {@code near} first and promote keys found only in {@code far}; updates go
+     * to both.
+     */
+    static IdempotencyIndex tiered(IdempotencyIndex near, IdempotencyIndex far) {
+        return new IdempotencyIndex() {
+            @Override
+            public boolean contains(IdempotencyKey key) {
+                if (near.contains(key)) return true;
+                if (!far.contains(key)) return false;
+                near.remember(key);
+                return true;
+            }
+
+            @Override
+            public void remember(IdempotencyKey key) {
+                near.remember(key);
+                far.remember(key);
+            }
+
+            @Override
+            public void invalidate(IdempotencyKey key) {
+                near.invalidate(key);
+                far.invalidate(key);
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package software.spool.crawler.internal.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * Streaming navigation of a {@link JsonParser} to the value addressed by a
+ * {@link JsonPointer}, skipping every sibling subtree without building it.
+ */
+public final class JsonPointers {
+    private JsonPointers() {}
+
+    /**
+     * Advances a parser that has not read any token yet to the value at
+     * {@code pointer}.
+     *
+     * @return {@code true} if the value exists, in which case the parser's
+     *         current token is the first token of the value
+     */
+    public static boolean moveTo(JsonParser parser, JsonPointer pointer) throws IOException {
+        JsonToken token = parser.nextToken();
+        while (!pointer.matches()) {
+            boolean found;
+            if (token == JsonToken.START_OBJECT) found = moveToField(parser, pointer.getMatchingProperty());
+            else if (token == JsonToken.START_ARRAY) found = moveToIndex(parser, pointer.getMatchingIndex());
+            else found = false;
+            if (!found) return false;
+            pointer = pointer.tail();
+            token = parser.currentToken();
+        }
+        return token != null;
+    }
+
+    private static boolean moveToField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            boolean found = parser.currentName().equals(name);
+            parser.nextToken();
+            if (found) return true;
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean moveToIndex(JsonParser parser, int index) throws IOException {
+        if (index < 0) return false;
+        for (int i = 0; i <= index; i++) {
+            if (parser.nextToken() == JsonToken.END_ARRAY) return false;
+            if (i < index) parser.skipChildren();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package software.spool.crawler.internal.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import software.spool.crawler.api.port.CapturedRecord;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Derives an ordering key from the partition attributes of a record, so
+ * records sharing a partition can be kept in order.
+ *
+ * <p>
+ * With domain mappings ({@link #byMapping}) each record is keyed by the
+ * attributes of the mapping it will be published with. When only a trial
+ * deserialization could tell between several mappings, the record is keyed by
+ * the attributes those mappings have in common, which is coarser but never
+ * splits a partition; if they share none, such records go to a single lane.
+ * </p>
+ */
+public class PartitionKeyExtractor {
+    private static final String SINGLE_LANE = "";
+
+    private final List<String> attributes;
+    private final DomainEventEmitter emitter;
+
+    public PartitionKeyExtractor(List<String> attributes) {
+        this(attributes, null);
+    }
+
+    private PartitionKeyExtractor(List<String> attributes, DomainEventEmitter emitter) {
+        this.attributes = Objects.isNull(attributes) ? null : List.copyOf(attributes);
+        this.emitter = emitter;
+    }
+
+    /**
+     * Keys each record by the partition attributes of the domain mapping the
+     * emitter routes it to.
+     */
+    public static PartitionKeyExtractor byMapping(DomainEventEmitter emitter) {
+        return new PartitionKeyExtractor(emitter.sharedTrialAttributes(), emitter);
+    }
+
+    /**
+     * Returns the partition key of the record. Without partition attributes,
+     * or when the record is not a JSON object, the payload itself is the key.
+     */
+    public String keyOf(CapturedRecord record) {
+        if (Objects.isNull(emitter)) return keyOf(record, attributes);
+        TypedDomainMapping mapping = emitter.mappingOf(record);
+        if (Objects.nonNull(mapping)) return keyOf(record, mapping.partitionAttributes());
+        if (Objects.nonNull(attributes) && attributes.isEmpty()) return SINGLE_LANE;
+        return keyOf(record, attributes);
+    }
+
+    private static String keyOf(CapturedRecord record, List<String> attributes) {
+        if (Objects.isNull(attributes) || attributes.isEmpty()) return record.payload();
+        JsonNode node = record.tree();
+        if (!node.isObject()) return record.payload();
+        StringBuilder key = new StringBuilder();
+        for (String attribute : attributes)
+            key.append(node.path(attribute).asText()).append('|');
+        return key.toString();
+    }
+}
@@ -2,12 +2,17 @@ package software.spool.crawler.internal.utils;
 
 
 import software.spool.core.utils.serialization.DomainEventMapping;
+import software.spool.crawler.api.utils.Discriminator;
 
 import java.util.List;
 
-public record TypedDomainMapping(Class<?> targetType, DomainEventMapping<?> mapping, List<String> partitionAttributes) {
+public record TypedDomainMapping(Class<?> targetType, DomainEventMapping<?> mapping, List<String> partitionAttributes,
+                                 Discriminator discriminator) {
+    public TypedDomainMapping(Class<?> targetType, DomainEventMapping<?> mapping, List<String> partitionAttributes) {
+        this(targetType, mapping, partitionAttributes, null);
+    }
+
     public static TypedDomainMapping of(Class<?> type, DomainEventMapping<?> mapping, String... partitionAttributes) {
         return new TypedDomainMapping(type, mapping, List.of(partitionAttributes));
     }
 }
-
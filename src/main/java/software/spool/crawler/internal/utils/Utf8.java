@@ -0,0 +1,32 @@
+package software.spool.crawler.internal.utils;
+
+/**
+ * UTF-8 helpers that work on the {@code char}s directly instead of encoding
+ * into a temporary byte array.
+ */
+public final class Utf8 {
+    private Utf8() {}
+
+    /**
+     * Returns the number of bytes {@code text} occupies in UTF-8, matching
+     * {@code text.getBytes(UTF_8).length}, including the one-byte replacement
+     * written for unpaired surrogates.
+     */
+    public static long length(CharSequence text) {
+        int chars = text.length();
+        long bytes = chars;
+        for (int i = 0; i < chars; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) continue;
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < chars && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+}
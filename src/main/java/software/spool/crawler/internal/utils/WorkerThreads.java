@@ -0,0 +1,55 @@
+package software.spool.crawler.internal.utils;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread factories for crawler workers.
+ *
+ * <p>
+ * The module is compiled for Java 17, so virtual threads are looked up
+ * reflectively; on runtimes without them (or with them behind
+ * {@code --enable-preview}) {@link #virtual(String)} returns {@code null} and
+ * callers fall back to {@link #platform(String)}.
+ * </p>
+ */
+public final class WorkerThreads {
+    private static final int PLATFORM_LIMIT = Runtime.getRuntime().availableProcessors() * 4;
+
+    private WorkerThreads() {}
+
+    /**
+     * Returns a factory of virtual threads named {@code name-N}, or
+     * {@code null} if the runtime does not support them.
+     */
+    public static ThreadFactory virtual(String name) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a factory of daemon platform threads named {@code name-N}.
+     */
+    public static ThreadFactory platform(String name) {
+        AtomicLong sequence = new AtomicLong();
+        return task -> {
+            Thread thread = new Thread(task, name + "-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Caps a requested concurrency to what a platform pool can reasonably
+     * sustain when virtual threads are not available.
+     */
+    public static int platformLimit(int requested) {
+        return Math.max(1, Math.min(requested, PLATFORM_LIMIT));
+    }
+}
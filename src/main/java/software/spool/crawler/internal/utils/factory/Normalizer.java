@@ -1,8 +1,15 @@
 package software.spool.crawler.internal.utils.factory;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import software.spool.core.port.serde.*;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.port.PayloadNormalizer;
 import software.spool.crawler.api.port.PayloadSplitter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.stream.Stream;
 
 /**
@@ -40,7 +47,7 @@ public record Normalizer<P, E, R>(
         PayloadLocator<P> locator,
         PayloadSplitter<P, R> splitter,
         RecordEnricher<R, E> enricher,
-        RecordSerializer<R> serializer) {
+        RecordSerializer<R> serializer) implements PayloadNormalizer {
     /**
      * Creates a new {@code Normalizer} from the three given pipeline components.
      *
@@ -56,10 +63,34 @@ public record Normalizer<P, E, R>(
         return new Normalizer<>(deserializer, extractor, locator, splitter, enricher, serializer);
     }
 
-    @SuppressWarnings("unchecked")
+    @Override
     public <I> Stream<String> transform(I poll) {
-        P parsed = poll instanceof String raw ? deserializer.deserialize(raw) : (P) poll;
-        return enricher.enrich(splitter.split(locator.locate(parsed)), extractor.extract(parsed))
-                .map(serializer::serialize);
+        return split(poll).map(serializer::serialize);
+    }
+
+    /**
+     * Keeps each record's {@link JsonNode} next to its serialized form when
+     * the record type is a JSON tree.
+     */
+    @Override
+    public <I> Stream<CapturedRecord> records(I poll) {
+        return split(poll).map(record -> CapturedRecord.of(serializer.serialize(record),
+                record instanceof JsonNode node ? node : null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <I> Stream<R> split(I poll) {
+        P parsed = poll instanceof String raw ? deserializer.deserialize(raw)
+                : poll instanceof InputStream in ? deserializer.deserialize(readFully(in))
+                : (P) poll;
+        return enricher.enrich(splitter.split(locator.locate(parsed)), extractor.extract(parsed));
+    }
+
+    private static String readFully(InputStream in) {
+        try (in) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
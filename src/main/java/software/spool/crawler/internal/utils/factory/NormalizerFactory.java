@@ -3,6 +3,7 @@ package software.spool.crawler.internal.utils.factory;
 import com.fasterxml.jackson.databind.JsonNode;
 import software.spool.core.adapter.jackson.*;
 import software.spool.core.port.serde.*;
+import software.spool.crawler.api.port.PayloadNormalizer;
 import software.spool.crawler.api.port.PayloadSplitter;
 import software.spool.crawler.api.utils.StandardNormalizer;
 
@@ -40,6 +41,21 @@ public class NormalizerFactory {
                 RecordSerializerFactory.jsonNode());
     }
 
+    /**
+     * Returns a normalizer that streams the elements of the JSON array at
+     * {@code rootPath} without building the whole document tree.
+     *
+     * <p>
+     * Enrichment rules read fields from anywhere in the document, so when rules
+     * are given this falls back to the tree-based {@link #jsonArray}.
+     * </p>
+     */
+    public static PayloadNormalizer jsonArrayStream(List<EnrichmentRule> rules, String rootPath) {
+        if (rules != null && !rules.isEmpty())
+            return jsonArray(rules, rootPath);
+        return StreamingJsonNormalizer.of(rootPath);
+    }
+
     public static Normalizer<JsonNode, JsonNode, JsonNode> yamlArray(List<EnrichmentRule> rules, String rootPath) {
         return new Normalizer<>(
                 PayloadDeserializerFactory.yaml().asNode(),
@@ -70,6 +86,14 @@ public class NormalizerFactory {
                 RecordSerializerFactory.map());
     }
 
+    /**
+     * Returns a normalizer that writes each row of a {@link ResultSet} straight
+     * to JSON, reading the column metadata once per result set.
+     */
+    public static PayloadNormalizer resultSetStream() {
+        return ResultSetNormalizer.of();
+    }
+
     public static <P, E, R> Normalizer<P, E, R> of(
             PayloadDeserializer<P> deserializer,
             PayloadExtractor<P, E> extractor,
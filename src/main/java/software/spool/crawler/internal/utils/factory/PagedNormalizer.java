@@ -0,0 +1,44 @@
+package software.spool.crawler.internal.utils.factory;
+
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.port.PayloadNormalizer;
+import software.spool.crawler.internal.adapter.http.PaginatedHTTPPollSource;
+
+import java.util.stream.Stream;
+
+/**
+ * {@link PayloadNormalizer} for payloads made of several pages, such as the
+ * {@code Stream} of page bodies returned by {@link PaginatedHTTPPollSource}.
+ *
+ * <p>
+ * Each page is normalized by the per-page normalizer as soon as it is pulled,
+ * so the records of the first page reach the pipeline while later pages are
+ * still downloading. Closing the returned stream closes the page stream.
+ * Any other payload is treated as a single page.
+ * </p>
+ */
+public class PagedNormalizer implements PayloadNormalizer {
+    private final PayloadNormalizer page;
+
+    private PagedNormalizer(PayloadNormalizer page) {
+        this.page = page;
+    }
+
+    public static PagedNormalizer of(PayloadNormalizer page) {
+        return new PagedNormalizer(page);
+    }
+
+    @Override
+    public <I> Stream<String> transform(I poll) {
+        return pages(poll).flatMap(page::transform);
+    }
+
+    @Override
+    public <I> Stream<CapturedRecord> records(I poll) {
+        return pages(poll).flatMap(page::records);
+    }
+
+    private static Stream<?> pages(Object poll) {
+        return poll instanceof Stream<?> pages ? pages : Stream.of(poll);
+    }
+}
@@ -0,0 +1,260 @@
+package software.spool.crawler.internal.utils.factory;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.spool.core.exception.DeserializationException;
+import software.spool.core.exception.SplitException;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.port.PayloadNormalizer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link PayloadNormalizer} that writes each row of a JDBC {@link ResultSet}
+ * straight to JSON, without the intermediate {@code Map} of the
+ * {@code RESULT_SET} format.
+ *
+ * <p>
+ * Column metadata is read once per result set and turned into one reader per
+ * column, picked from the SQL type: numbers, booleans and strings go through
+ * the primitive getters and the matching {@link JsonGenerator} call; other
+ * types fall back to {@code getObject} and the default Jackson mapping, so
+ * records are the same JSON the map-based format produces. A single
+ * generator and character buffer are reused for every row, and the cursor is
+ * read forward only with the configured fetch size.
+ * </p>
+ *
+ * <p>
+ * The fetch size is only a hint once the query has run; use
+ * {@link #streamingQuery} to create the statement with it. PostgreSQL only
+ * streams with a fetch size when auto-commit is off.
+ * </p>
+ */
+public class ResultSetNormalizer implements PayloadNormalizer {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final int fetchSize;
+
+    private ResultSetNormalizer(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public static ResultSetNormalizer of() {
+        return new ResultSetNormalizer(DEFAULT_FETCH_SIZE);
+    }
+
+    public static ResultSetNormalizer of(int fetchSize) {
+        if (fetchSize < 1) throw new IllegalArgumentException("fetchSize must be at least 1");
+        return new ResultSetNormalizer(fetchSize);
+    }
+
+    /**
+     * Prepares a forward-only, read-only statement that fetches
+     * {@code fetchSize} rows per round trip.
+     */
+    public static PreparedStatement streamingQuery(Connection connection, String sql, int fetchSize) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchDirection(ResultSet.FETCH_FORWARD);
+        statement.setFetchSize(fetchSize);
+        return statement;
+    }
+
+    @Override
+    public <I> Stream<String> transform(I poll) {
+        return rows(poll);
+    }
+
+    @Override
+    public <I> Stream<CapturedRecord> records(I poll) {
+        return rows(poll).map(CapturedRecord::of);
+    }
+
+    private Stream<String> rows(Object poll) {
+        if (!(poll instanceof ResultSet rs))
+            throw new DeserializationException(String.valueOf(poll),
+                    "Unsupported payload type for ResultSet normalizer: " + poll.getClass().getName());
+        RowWriter writer;
+        try {
+            hint(rs);
+            writer = new RowWriter(rs, columns(rs.getMetaData()));
+        } catch (SQLException | IOException e) {
+            throw new SplitException("Unable to read ResultSet metadata: " + e.getMessage(), null);
+        }
+        return StreamSupport.stream(writer, false).onClose(writer::close);
+    }
+
+    private void hint(ResultSet rs) {
+        try {
+            if (rs.getType() == ResultSet.TYPE_FORWARD_ONLY) rs.setFetchDirection(ResultSet.FETCH_FORWARD);
+            rs.setFetchSize(fetchSize);
+        } catch (SQLException ignored) {
+            // hints only; drivers may reject them once the query has run
+        }
+    }
+
+    /**
+     * Builds the column readers in label order; a repeated label keeps its
+     * first position and the value of its last column, as a map would.
+     */
+    private static Column[] columns(ResultSetMetaData meta) throws SQLException {
+        Map<String, Integer> byLabel = new LinkedHashMap<>();
+        for (int i = 1; i <= meta.getColumnCount(); i++)
+            byLabel.put(meta.getColumnLabel(i), i);
+        Column[] columns = new Column[byLabel.size()];
+        int position = 0;
+        for (Map.Entry<String, Integer> entry : byLabel.entrySet()) {
+            int index = entry.getValue();
+            columns[position++] = new Column(new SerializedString(entry.getKey()), index,
+                    readerOf(meta.getColumnType(index)));
+        }
+        return columns;
+    }
+
+    private static ColumnReader readerOf(int sqlType) {
+        return switch (sqlType) {
+            case Types.BIGINT -> (rs, i, json) -> {
+                long value = rs.getLong(i);
+                if (rs.wasNull()) json.writeNull();
+                else json.writeNumber(value);
+            };
+            case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> (rs, i, json) -> {
+                int value = rs.getInt(i);
+                if (rs.wasNull()) json.writeNull();
+                else json.writeNumber(value);
+            };
+            case Types.DOUBLE, Types.FLOAT -> (rs, i, json) -> {
+                double value = rs.getDouble(i);
+                if (rs.wasNull()) json.writeNull();
+                else json.writeNumber(value);
+            };
+            case Types.REAL -> (rs, i, json) -> {
+                float value = rs.getFloat(i);
+                if (rs.wasNull()) json.writeNull();
+                else json.writeNumber(value);
+            };
+            case Types.DECIMAL, Types.NUMERIC -> (rs, i, json) -> json.writeNumber(rs.getBigDecimal(i));
+            case Types.BOOLEAN, Types.BIT -> (rs, i, json) -> {
+                boolean value = rs.getBoolean(i);
+                if (rs.wasNull()) json.writeNull();
+                else json.writeBoolean(value);
+            };
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR ->
+                    (rs, i, json) -> json.writeString(rs.getString(i));
+            default -> (rs, i, json) -> json.writeObject(rs.getObject(i));
+        };
+    }
+
+    @FunctionalInterface
+    private interface ColumnReader {
+        void write(ResultSet rs, int column, JsonGenerator json) throws SQLException, IOException;
+    }
+
+    private record Column(SerializableString name, int index, ColumnReader reader) {}
+
+    /**
+     * Advances the cursor one row per {@link #tryAdvance} call and renders the
+     * row into the shared buffer.
+     */
+    private static final class RowWriter extends Spliterators.AbstractSpliterator<String> {
+        private final ResultSet rs;
+        private final Column[] columns;
+        private final RowBuffer buffer = new RowBuffer();
+        private final JsonGenerator json;
+        private boolean done;
+
+        private RowWriter(ResultSet rs, Column[] columns) throws IOException {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.rs = rs;
+            this.columns = columns;
+            this.json = MAPPER.getFactory().createGenerator(buffer);
+            this.json.setRootValueSeparator(null);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super String> action) {
+            if (done) return false;
+            String row;
+            try {
+                if (!rs.next()) {
+                    done = true;
+                    return false;
+                }
+                json.writeStartObject();
+                for (Column column : columns) {
+                    json.writeFieldName(column.name());
+                    column.reader().write(rs, column.index(), json);
+                }
+                json.writeEndObject();
+                json.flush();
+                row = buffer.take();
+            } catch (SQLException | IOException e) {
+                done = true;
+                throw new SplitException("ResultSet row failed: " + e.getMessage(), null);
+            }
+            action.accept(row);
+            return true;
+        }
+
+        private void close() {
+            try {
+                json.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * {@link Writer} over a {@link StringBuilder} that is emptied after each
+     * row, so its capacity settles at the largest row.
+     */
+    private static final class RowBuffer extends Writer {
+        private final StringBuilder chars = new StringBuilder(256);
+
+        private String take() {
+            String row = chars.toString();
+            chars.setLength(0);
+            return row;
+        }
+
+        @Override
+        public void write(char[] source, int offset, int length) {
+            chars.append(source, offset, length);
+        }
+
+        @Override
+        public void write(String source, int offset, int length) {
+            chars.append(source, offset, offset + length);
+        }
+
+        @Override
+        public void write(int c) {
+            chars.append((char) c);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+}
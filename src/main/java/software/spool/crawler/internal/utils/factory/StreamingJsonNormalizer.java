@@ -0,0 +1,149 @@
+package software.spool.crawler.internal.utils.factory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.spool.core.adapter.jackson.RecordSerializerFactory;
+import software.spool.core.exception.DeserializationException;
+import software.spool.core.exception.SplitException;
+import software.spool.core.port.serde.RecordSerializer;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.port.PayloadNormalizer;
+import software.spool.crawler.internal.utils.JsonPointers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link PayloadNormalizer} that reads a JSON array token by token instead of
+ * materializing the whole document as a {@link JsonNode} tree.
+ *
+ * <p>
+ * The parser is moved to the array located at the configured JSON pointer and
+ * each element is read, serialized and emitted as soon as its closing token is
+ * consumed, so peak heap is bounded by the largest single element rather than
+ * by the whole payload. Accepted inputs are {@link String}, {@code byte[]},
+ * {@link InputStream} and {@link Reader}; the underlying source is closed when
+ * the returned stream is closed.
+ * </p>
+ */
+public class StreamingJsonNormalizer implements PayloadNormalizer {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonFactory factory;
+    private final JsonPointer rootPath;
+    private final RecordSerializer<JsonNode> serializer;
+
+    private StreamingJsonNormalizer(JsonFactory factory, JsonPointer rootPath, RecordSerializer<JsonNode> serializer) {
+        this.factory = factory;
+        this.rootPath = rootPath;
+        this.serializer = serializer;
+    }
+
+    /**
+     * Creates a streaming normalizer for the array found at {@code rootPath}.
+     *
+     * @param rootPath JSON pointer to the array; {@code null} or empty for the
+     *                 document root
+     * @return a new {@code StreamingJsonNormalizer}
+     */
+    public static StreamingJsonNormalizer of(String rootPath) {
+        return new StreamingJsonNormalizer(MAPPER.getFactory(),
+                JsonPointer.compile(Objects.requireNonNullElse(rootPath, "")),
+                RecordSerializerFactory.jsonNode());
+    }
+
+    @Override
+    public <I> Stream<String> transform(I poll) {
+        return elements(poll).map(serializer::serialize);
+    }
+
+    @Override
+    public <I> Stream<CapturedRecord> records(I poll) {
+        return elements(poll).map(element -> CapturedRecord.of(serializer.serialize(element), element));
+    }
+
+    private Stream<JsonNode> elements(Object poll) {
+        JsonParser parser = open(poll);
+        try {
+            moveToArray(parser);
+        } catch (IOException | RuntimeException e) {
+            close(parser);
+            if (e instanceof SplitException split) throw split;
+            throw new SplitException("Unable to locate array at " + rootPath + ": " + e.getMessage(), null);
+        }
+        return StreamSupport.stream(new ElementSpliterator(parser), false)
+                .onClose(() -> close(parser));
+    }
+
+    private JsonParser open(Object poll) {
+        try {
+            if (poll instanceof String raw) return factory.createParser(raw);
+            if (poll instanceof byte[] raw) return factory.createParser(raw);
+            if (poll instanceof InputStream in) return factory.createParser(in);
+            if (poll instanceof Reader reader) return factory.createParser(reader);
+        } catch (IOException e) {
+            throw new DeserializationException(poll.getClass().getSimpleName(), e.getMessage());
+        }
+        throw new DeserializationException(String.valueOf(poll),
+                "Unsupported payload type for streaming JSON: " + poll.getClass().getName());
+    }
+
+    private void moveToArray(JsonParser parser) throws IOException {
+        if (!JsonPointers.moveTo(parser, rootPath))
+            throw new SplitException("Path not found: " + rootPath, null);
+        if (parser.currentToken() != JsonToken.START_ARRAY)
+            throw new SplitException("Expected array at " + rootPath + ", got: " + parser.currentToken(), null);
+    }
+
+    private static void close(JsonParser parser) {
+        try {
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads one array element per {@link #tryAdvance} call, leaving the parser
+     * positioned on the element's last token.
+     */
+    private static final class ElementSpliterator extends Spliterators.AbstractSpliterator<JsonNode> {
+        private final JsonParser parser;
+        private boolean done;
+
+        private ElementSpliterator(JsonParser parser) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super JsonNode> action) {
+            if (done) return false;
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null || token == JsonToken.END_ARRAY) {
+                    done = true;
+                    return false;
+                }
+                JsonNode element = MAPPER.readTree(parser);
+                action.accept(element);
+                return true;
+            } catch (IOException e) {
+                done = true;
+                throw new SplitException("Malformed JSON array element: " + e.getMessage(), null);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package software.spool.crawler.internal.adapter.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileCheckpointStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void aSourceWithoutCommitsHasNoWatermark() {
+        assertTrue(FileCheckpointStore.in(directory).load("orders").isEmpty());
+    }
+
+    @Test
+    void committedWatermarksSurviveANewStore() {
+        FileCheckpointStore store = FileCheckpointStore.in(directory);
+        store.commit("orders", "41");
+        store.commit("orders", "2024-05-01T10:15:30Z");
+
+        assertEquals(Optional.of("2024-05-01T10:15:30Z"), FileCheckpointStore.in(directory).load("orders"));
+    }
+
+    @Test
+    void commitLeavesOnlyTheCheckpointFile() throws IOException {
+        FileCheckpointStore store = FileCheckpointStore.in(directory);
+        store.commit("orders", "1");
+        store.commit("orders", "2");
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void sourceIdsAreKeptApartAndMadeSafeForFileNames() {
+        FileCheckpointStore store = FileCheckpointStore.in(directory.resolve("nested"));
+        store.commit("https://api/orders", "a");
+        store.commit("customers", "b");
+
+        assertEquals(Optional.of("a"), store.load("https://api/orders"));
+        assertEquals(Optional.of("b"), store.load("customers"));
+        assertTrue(Files.isDirectory(directory.resolve("nested")));
+    }
+}
@@ -0,0 +1,89 @@
+package software.spool.crawler.internal.adapter.file;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.spool.core.model.vo.IdempotencyKey;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedIdempotencyIndexTest {
+    private static final long SMALL = 16 + 1024 * 16;
+    private static final long LARGE = 16 + 4096 * 16;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void removingKeepsTheRestOfEachProbeChainReachable() {
+        MappedIdempotencyIndex index = MappedIdempotencyIndex.open(directory, "orders", SMALL, null);
+        for (int i = 0; i < 600; i++) index.remember(key(i));
+        for (int i = 0; i < 600; i += 2) index.invalidate(key(i));
+
+        for (int i = 0; i < 600; i++)
+            assertEquals(i % 2 == 1, index.contains(key(i)), "key " + i);
+        assertEquals(300, index.size());
+    }
+
+    @Test
+    void reopeningReadsTheEntryCountFromTheHeader() throws IOException {
+        MappedIdempotencyIndex index = MappedIdempotencyIndex.open(directory, "orders", SMALL, null);
+        for (int i = 0; i < 100; i++) index.remember(key(i));
+        index.close();
+
+        assertEquals(100, ByteBuffer.wrap(Files.readAllBytes(directory.resolve("orders.idx"))).getInt(12));
+        MappedIdempotencyIndex reopened = MappedIdempotencyIndex.open(directory, "orders", SMALL, null);
+        assertEquals(100, reopened.size());
+        for (int i = 0; i < 100; i++) assertTrue(reopened.contains(key(i)), "key " + i);
+        assertFalse(reopened.contains(key(100)));
+    }
+
+    @Test
+    void reopeningWithAnotherSizeRebuildsTheTable() {
+        MappedIdempotencyIndex index = MappedIdempotencyIndex.open(directory, "orders", SMALL, null);
+        for (int i = 0; i < 500; i++) index.remember(key(i));
+        index.close();
+
+        MappedIdempotencyIndex larger = MappedIdempotencyIndex.open(directory, "orders", LARGE, null);
+        assertEquals(500, larger.size());
+        for (int i = 0; i < 500; i++) assertTrue(larger.contains(key(i)), "key " + i);
+        larger.remember(key(500));
+        assertTrue(larger.contains(key(500)));
+    }
+
+    @Test
+    void compactionEvictsTheOldestKeysUntilHalfFull() throws InterruptedException {
+        MappedIdempotencyIndex index = MappedIdempotencyIndex.open(directory, "orders", SMALL, null);
+        for (int i = 0; i < 400; i++) index.remember(key(i));
+        Thread.sleep(5);
+        for (int i = 400; i < 800; i++) index.remember(key(i));
+
+        // compacted once, from 716 entries down to 512, before the 717th insert
+        assertEquals(512 + 84, index.size());
+        int olderKept = 0;
+        for (int i = 0; i < 400; i++) if (index.contains(key(i))) olderKept++;
+        assertEquals(400 - 204, olderKept);
+        for (int i = 400; i < 800; i++) assertTrue(index.contains(key(i)), "key " + i);
+    }
+
+    @Test
+    void keysExpireAfterTheRetention() throws InterruptedException {
+        MappedIdempotencyIndex index = MappedIdempotencyIndex.open(directory, "orders", SMALL, Duration.ofMillis(20));
+        index.remember(key(1));
+        assertTrue(index.contains(key(1)));
+        Thread.sleep(50);
+
+        assertFalse(index.contains(key(1)));
+    }
+
+    private static IdempotencyKey key(int i) {
+        return IdempotencyKey.of("orders", "{\"id\":" + i + "}");
+    }
+}
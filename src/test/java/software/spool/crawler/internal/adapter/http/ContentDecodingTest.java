@@ -0,0 +1,103 @@
+package software.spool.crawler.internal.adapter.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ContentDecodingTest {
+    private static final String BODY = "[" + "{\"id\":1,\"name\":\"café\"},".repeat(5000) + "{}]";
+
+    private final SharedHttpClient client = SharedHttpClient.builder().build();
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        byte[] plain = BODY.getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serve("/identity", null, null, plain);
+        serve("/gzip", "gzip", null, gzip(plain));
+        serve("/zlib", "deflate", null, deflate(plain, false));
+        serve("/raw", "deflate", null, deflate(plain, true));
+        serve("/latin1", null, "application/json; charset=ISO-8859-1", BODY.getBytes(StandardCharsets.ISO_8859_1));
+        serve("/brotli", "br", null, plain);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void stringBodiesAreDecodedForEveryEncoding() {
+        for (String path : new String[]{"/identity", "/gzip", "/zlib", "/raw"})
+            assertEquals(BODY, new HTTPPollSource(url(path), "orders", client).poll(), path);
+    }
+
+    @Test
+    void streamedBodiesAreInflatedAsTheyAreRead() throws IOException {
+        for (String path : new String[]{"/identity", "/gzip", "/zlib", "/raw"}) {
+            try (InputStream body = new HTTPStreamPollSource(url(path), "orders", client).poll()) {
+                assertEquals(BODY, new String(body.readAllBytes(), StandardCharsets.UTF_8), path);
+            }
+        }
+    }
+
+    @Test
+    void theContentTypeCharsetIsHonoured() {
+        assertEquals(BODY, new HTTPPollSource(url("/latin1"), "orders", client).poll());
+    }
+
+    @Test
+    void anUnsupportedEncodingFailsThePoll() {
+        assertThrows(RuntimeException.class, () -> new HTTPPollSource(url("/brotli"), "orders", client).poll());
+    }
+
+    private void serve(String path, String encoding, String contentType, byte[] body) {
+        server.createContext(path, exchange -> {
+            if (encoding != null) exchange.getResponseHeaders().set("Content-Encoding", encoding);
+            if (contentType != null) exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+    }
+
+    private static byte[] gzip(byte[] plain) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(plain);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] plain, boolean raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, raw);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out, deflater)) {
+            deflate.write(plain);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,95 @@
+package software.spool.crawler.internal.adapter.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HTTPPollSourceTest {
+    private static final String ETAG = "\"v1\"";
+    private static final String LAST_MODIFIED = "Wed, 01 May 2024 10:00:00 GMT";
+
+    private final List<String> ifNoneMatch = new CopyOnWriteArrayList<>();
+    private final List<String> ifModifiedSince = new CopyOnWriteArrayList<>();
+    private HttpServer server;
+    private HTTPPollSource source;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/orders", this::orders);
+        server.createContext("/missing", exchange -> {
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+        source = new HTTPPollSource(url("/orders"), "orders", SharedHttpClient.builder().build());
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void validatorsAreOnlySentOnceTheCycleIsAcknowledged() {
+        assertEquals("[1,2]", source.poll());
+        assertEquals("[1,2]", source.poll());
+        assertEquals(List.of("-", "-"), ifNoneMatch);
+
+        source.acknowledge();
+        assertNull(source.poll());
+        assertEquals(List.of("-", "-", ETAG), ifNoneMatch);
+        assertEquals(List.of("-", "-", LAST_MODIFIED), ifModifiedSince);
+    }
+
+    @Test
+    void aNotModifiedResponseKeepsTheAcknowledgedValidators() {
+        source.poll();
+        source.acknowledge();
+        assertNull(source.poll());
+        source.acknowledge();
+        assertNull(source.poll());
+
+        assertEquals(List.of("-", ETAG, ETAG), ifNoneMatch);
+    }
+
+    @Test
+    void anErrorStatusFailsThePoll() {
+        HTTPPollSource missing = new HTTPPollSource(url("/missing"), "missing", SharedHttpClient.builder().build());
+
+        assertThrows(RuntimeException.class, missing::poll);
+    }
+
+    private void orders(HttpExchange exchange) throws IOException {
+        String etag = exchange.getRequestHeaders().getFirst("If-None-Match");
+        String since = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        ifNoneMatch.add(etag == null ? "-" : etag);
+        ifModifiedSince.add(since == null ? "-" : since);
+        exchange.getResponseHeaders().set("ETag", ETAG);
+        exchange.getResponseHeaders().set("Last-Modified", LAST_MODIFIED);
+        if (ETAG.equals(etag)) {
+            exchange.sendResponseHeaders(304, -1);
+        } else {
+            byte[] body = "[1,2]".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+        }
+        exchange.close();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+}
@@ -0,0 +1,118 @@
+package software.spool.crawler.internal.adapter.http;
+
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PageNavigatorTest {
+    private static final String URL = "https://api.example.com/orders?limit=2";
+
+    @Test
+    void linkHeaderFollowsTheNextRelation() {
+        PageNavigator navigator = PageNavigator.linkHeader();
+        Page page = new Page("[]", Map.of("Link", List.of(
+                "<https://api.example.com/orders?page=1>; rel=\"prev\", </orders?page=3>; rel=\"last next\"")));
+
+        assertEquals("https://api.example.com/orders?page=3", navigator.next(URL, page));
+        assertNull(navigator.next(URL, new Page("[]", Map.of("Link", List.of("</orders?page=1>; rel=\"prev\"")))));
+        assertNull(navigator.next(URL, new Page("[]", Map.of())));
+    }
+
+    @Test
+    void cursorIsReadFromTheBodyWithoutTouchingLookalikeFields() {
+        PageNavigator navigator = PageNavigator.cursor("/meta/next", "after");
+        String body = "{\"data\":[{\"meta\":{\"next\":\"wrong\"}}],\"meta\":{\"next\":\"c 2\"}}";
+
+        assertEquals("https://api.example.com/orders?limit=2&after=c+2", navigator.next(URL, new Page(body)));
+        assertEquals("https://api.example.com/orders?limit=2&after=c3",
+                navigator.next("https://api.example.com/orders?limit=2&after=c+2",
+                        new Page("{\"meta\":{\"next\":\"c3\"}}")));
+    }
+
+    @Test
+    void aMissingNullOrEmptyCursorEndsThePages() {
+        PageNavigator navigator = PageNavigator.cursor("/meta/next", "after");
+
+        assertNull(navigator.next(URL, new Page("{\"meta\":{}}")));
+        assertNull(navigator.next(URL, new Page("{\"meta\":{\"next\":null}}")));
+        assertNull(navigator.next(URL, new Page("{\"meta\":{\"next\":\"\"}}")));
+        assertNull(navigator.next(URL, new Page("{\"meta\":{\"next\":{\"id\":1}}}")));
+    }
+
+    @Test
+    void offsetAdvancesUntilAPageIsShort() {
+        PageNavigator navigator = PageNavigator.offset("offset", 2, "/items");
+
+        assertEquals("https://api.example.com/orders?limit=2&offset=2",
+                navigator.next(URL, new Page("{\"items\":[{\"a\":[1,2,3]},{}]}")));
+        assertEquals("https://api.example.com/orders?limit=2&offset=4",
+                navigator.next("https://api.example.com/orders?limit=2&offset=2", new Page("{\"items\":[1,2]}")));
+        assertNull(navigator.next(URL, new Page("{\"items\":[1]}")));
+        assertNull(navigator.next(URL, new Page("{\"other\":[1,2]}")));
+    }
+
+    private static final class Page implements HttpResponse<String> {
+        private final String body;
+        private final HttpHeaders headers;
+
+        private Page(String body) {
+            this(body, Map.of());
+        }
+
+        private Page(String body, Map<String, List<String>> headers) {
+            this.body = body;
+            this.headers = HttpHeaders.of(headers, (name, value) -> true);
+        }
+
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpRequest request() {
+            return HttpRequest.newBuilder(uri()).build();
+        }
+
+        @Override
+        public Optional<HttpResponse<String>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return headers;
+        }
+
+        @Override
+        public String body() {
+            return body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return URI.create(URL);
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package software.spool.crawler.internal.adapter.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SharedHttpClientTest {
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final AtomicInteger served = new AtomicInteger();
+    private final ExecutorService handlers = Executors.newCachedThreadPool();
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(handlers);
+        server.createContext("/slow", exchange -> {
+            try {
+                unblock.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange);
+        });
+        server.createContext("/fast", this::respond);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        unblock.countDown();
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+
+    @Test
+    void interruptedQueuedSendGivesUpItsSlot() throws Exception {
+        SharedHttpClient client = SharedHttpClient.builder().maxConcurrentPerHost(1).build();
+        CompletableFuture<HttpResponse<String>> holder = client.sendAsync(request("/slow"),
+                HttpResponse.BodyHandlers.ofString());
+
+        AtomicReference<Throwable> queuedError = new AtomicReference<>();
+        Thread queued = new Thread(() -> {
+            try {
+                client.send(request("/fast"), HttpResponse.BodyHandlers.ofString());
+            } catch (Throwable e) {
+                queuedError.set(e);
+            }
+        });
+        queued.start();
+        Thread.sleep(100);
+        queued.interrupt();
+        queued.join(5000);
+        assertTrue(queuedError.get() instanceof InterruptedException, "queued send was not interrupted");
+
+        unblock.countDown();
+        assertEquals(200, holder.get(5, TimeUnit.SECONDS).statusCode());
+        HttpResponse<String> next = client.sendAsync(request("/fast"), HttpResponse.BodyHandlers.ofString())
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(200, next.statusCode());
+        assertEquals(2, served.get());
+    }
+
+    @Test
+    void requestsBeyondTheLimitWaitForAFreeSlot() throws Exception {
+        SharedHttpClient client = SharedHttpClient.builder().maxConcurrentPerHost(1).build();
+        CompletableFuture<HttpResponse<String>> first = client.sendAsync(request("/slow"),
+                HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<String>> second = client.sendAsync(request("/fast"),
+                HttpResponse.BodyHandlers.ofString());
+
+        Thread.sleep(200);
+        assertTrue(!second.isDone(), "second request did not wait for the slot");
+        assertEquals(0, served.get());
+
+        unblock.countDown();
+        assertEquals(200, first.get(5, TimeUnit.SECONDS).statusCode());
+        assertEquals(200, second.get(5, TimeUnit.SECONDS).statusCode());
+    }
+
+    private HttpRequest request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path)).build();
+    }
+
+    private void respond(com.sun.net.httpserver.HttpExchange exchange) throws IOException {
+        byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+        served.incrementAndGet();
+    }
+}
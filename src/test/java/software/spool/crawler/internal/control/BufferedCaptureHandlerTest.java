@@ -0,0 +1,145 @@
+package software.spool.crawler.internal.control;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.spool.core.adapter.otel.OpenTelemetryMetricsRegistry;
+import software.spool.core.port.metrics.MetricsRegistry;
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.utils.OverflowPolicy;
+import software.spool.crawler.internal.utils.CrawlerMetrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BufferedCaptureHandlerTest {
+    private final MetricsRegistry registry = new OpenTelemetryMetricsRegistry();
+    private final CrawlerMetrics metrics = CrawlerMetrics.of("test", registry);
+    private final List<String> handled = new CopyOnWriteArrayList<>();
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstStarted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BufferedCaptureHandler handler;
+
+    @AfterEach
+    void close() {
+        release.countDown();
+        if (handler != null) handler.close();
+    }
+
+    @Test
+    void blockPolicyHoldsTheProducerUntilThereIsRoom() throws InterruptedException {
+        handler = buffered(1, Long.MAX_VALUE, OverflowPolicy.BLOCK);
+        startFirstRecord();
+        handler.handle("r1");
+        Thread producer = new Thread(() -> handler.handle("r2"));
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive(), "producer was not blocked by the full buffer");
+
+        release.countDown();
+        producer.join(2000);
+        assertFalse(producer.isAlive());
+        handler.complete();
+        assertEquals(List.of("r0", "r1", "r2"), handled);
+        assertEquals(0, metrics.failures());
+    }
+
+    @Test
+    void dropOldestEvictsQueuedRecordsAndCountsThemAsFailures() throws InterruptedException {
+        handler = buffered(2, Long.MAX_VALUE, OverflowPolicy.DROP_OLDEST);
+        startFirstRecord();
+        for (int i = 1; i <= 4; i++) handler.handle("r" + i);
+
+        release.countDown();
+        handler.complete();
+        assertEquals(List.of("r0", "r3", "r4"), handled);
+        assertEquals(2, metrics.failures());
+    }
+
+    @Test
+    void failPolicyRejectsTheRecordThatDoesNotFit() throws InterruptedException {
+        handler = buffered(1, Long.MAX_VALUE, OverflowPolicy.FAIL);
+        startFirstRecord();
+        handler.handle("r1");
+
+        assertThrows(IllegalStateException.class, () -> handler.handle("r2"));
+        release.countDown();
+        handler.complete();
+        assertEquals(List.of("r0", "r1"), handled);
+    }
+
+    @Test
+    void byteBoundAppliesOnTopOfTheRecordBound() throws InterruptedException {
+        handler = buffered(100, 8, OverflowPolicy.FAIL);
+        startFirstRecord();
+        handler.handle("aaaa");
+        handler.handle("bbbb");
+
+        assertThrows(IllegalStateException.class, () -> handler.handle("c"));
+        release.countDown();
+        handler.complete();
+        assertEquals(List.of("r0", "aaaa", "bbbb"), handled);
+    }
+
+    @Test
+    void anOversizedRecordIsAcceptedIntoAnEmptyQueue() throws InterruptedException {
+        handler = buffered(100, 4, OverflowPolicy.FAIL);
+        startFirstRecord();
+        handler.handle("much longer than four bytes");
+
+        release.countDown();
+        handler.complete();
+        assertEquals(List.of("r0", "much longer than four bytes"), handled);
+    }
+
+    @Test
+    void completeDrainsTheQueueBeforeCompletingTheDelegate() throws InterruptedException {
+        handler = buffered(100, Long.MAX_VALUE, OverflowPolicy.BLOCK);
+        startFirstRecord();
+        for (int i = 1; i < 50; i++) handler.handle("r" + i);
+        release.countDown();
+        handler.complete();
+
+        assertEquals(50, handled.size());
+        assertEquals("complete", events.get(events.size() - 1));
+        assertEquals(51, events.size());
+    }
+
+    private void startFirstRecord() throws InterruptedException {
+        handler.handle("r0");
+        assertTrue(firstStarted.await(2, TimeUnit.SECONDS), "consumer did not take the first record");
+    }
+
+    private BufferedCaptureHandler buffered(int maxRecords, long maxBytes, OverflowPolicy policy) {
+        return new BufferedCaptureHandler(new CaptureHandler() {
+            @Override
+            public void handle(CapturedRecord record) {
+                firstStarted.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handled.add(record.payload());
+                events.add(record.payload());
+            }
+
+            @Override
+            public void complete() {
+                events.add("complete");
+            }
+        }, "test", new ErrorRouter(), maxRecords, maxBytes, policy,
+                registry.histogram("depth", "", "{record}"),
+                registry.histogram("blocked", "", "ms"),
+                registry.histogram("dropped", "", "{record}"),
+                metrics);
+    }
+}
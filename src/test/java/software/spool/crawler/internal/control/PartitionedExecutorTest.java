@@ -0,0 +1,128 @@
+package software.spool.crawler.internal.control;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PartitionedExecutorTest {
+
+    @Test
+    void tasksWithTheSameKeyRunInSubmissionOrder() throws InterruptedException {
+        PartitionedExecutor executor = new PartitionedExecutor("test-lanes", 4, 8);
+        Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            String key = "key-" + (i % 7);
+            int sequence = i;
+            executor.submit(key, () -> seen.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(sequence));
+        }
+        executor.awaitIdle();
+
+        assertEquals(7, seen.size());
+        seen.forEach((key, sequences) -> {
+            List<Integer> sorted = new ArrayList<>(sequences);
+            sorted.sort(null);
+            assertEquals(sorted, sequences, key);
+        });
+        executor.shutdown();
+    }
+
+    @Test
+    void differentKeysRunInParallel() throws InterruptedException {
+        PartitionedExecutor executor = new PartitionedExecutor("test-lanes", 2, 8);
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        AtomicInteger met = new AtomicInteger();
+        Runnable meet = () -> {
+            bothRunning.countDown();
+            try {
+                if (bothRunning.await(2, TimeUnit.SECONDS)) met.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        executor.submit(laneKey(0, 2), meet);
+        executor.submit(laneKey(1, 2), meet);
+        executor.awaitIdle();
+
+        assertEquals(2, met.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void aFailingTaskDoesNotStopItsLaneOrHangAwaitIdle() throws InterruptedException {
+        List<Throwable> uncaught = new CopyOnWriteArrayList<>();
+        PartitionedExecutor executor = new PartitionedExecutor(task -> {
+            Thread thread = new Thread(task);
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((t, e) -> uncaught.add(e));
+            return thread;
+        }, 1, 8);
+        AtomicInteger ran = new AtomicInteger();
+        executor.submit("a", () -> {
+            throw new AssertionError("boom");
+        });
+        executor.submit("a", ran::incrementAndGet);
+        executor.awaitIdle();
+
+        assertEquals(1, ran.get());
+        assertEquals(1, uncaught.size());
+        executor.shutdown();
+    }
+
+    @Test
+    void submitIsRejectedAfterShutdown() {
+        PartitionedExecutor executor = new PartitionedExecutor("test-lanes", 1, 8);
+        executor.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> executor.submit("a", () -> {}));
+    }
+
+    @Test
+    void aFullLaneBlocksTheProducer() throws InterruptedException {
+        PartitionedExecutor executor = new PartitionedExecutor("test-lanes", 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit("a", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.submit("a", () -> {});
+        Thread producer = new Thread(() -> {
+            try {
+                executor.submit("a", () -> {});
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive(), "producer was not blocked by the full lane");
+
+        release.countDown();
+        producer.join(2000);
+        executor.awaitIdle();
+        assertFalse(producer.isAlive());
+        executor.shutdown();
+    }
+
+    private static Object laneKey(int lane, int lanes) {
+        for (int i = 0; ; i++) {
+            String key = "k" + i;
+            if (Math.floorMod(key.hashCode(), lanes) == lane) return key;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package software.spool.crawler.internal.control.steps;
+
+import org.junit.jupiter.api.Test;
+import software.spool.core.exception.DuplicateEventException;
+import software.spool.core.model.EnvelopeStatus;
+import software.spool.core.model.event.SourcePayloadCaptured;
+import software.spool.core.model.vo.Envelope;
+import software.spool.core.model.vo.EventMetadata;
+import software.spool.core.model.vo.IdempotencyKey;
+import software.spool.core.pipeline.Pipeline;
+import software.spool.core.pipeline.PipelineContext;
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.port.InboxWriteResult;
+import software.spool.crawler.api.port.InboxWriter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnvelopeBatchStepTest {
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private final List<Exception> errors = new CopyOnWriteArrayList<>();
+    private final ErrorRouter errorRouter = new ErrorRouter().orElse((e, cause) -> errors.add(e));
+
+    @Test
+    void writesFullBatchesAndFlushesTheRest() throws Exception {
+        EnvelopeBatchStep step = new EnvelopeBatchStep(recording(), Pipeline.start(), errorRouter, 3, Duration.ZERO);
+        for (int i = 0; i < 7; i++) step.apply(context("r" + i));
+
+        assertEquals(List.of(List.of("r0", "r1", "r2"), List.of("r3", "r4", "r5")), batches);
+        step.flush();
+        assertEquals(List.of("r6"), batches.get(2));
+        step.close();
+    }
+
+    @Test
+    void zeroDelaySetsNoTimeBound() throws Exception {
+        EnvelopeBatchStep step = new EnvelopeBatchStep(recording(), Pipeline.start(), errorRouter, 10, Duration.ZERO);
+        step.apply(context("r0"));
+        Thread.sleep(20);
+        step.apply(context("r1"));
+
+        assertTrue(batches.isEmpty(), "records were written before the batch was full");
+        step.flush();
+        assertEquals(List.of(List.of("r0", "r1")), batches);
+        step.close();
+    }
+
+    @Test
+    void timerWritesABatchOnceItsOldestRecordExpires() throws Exception {
+        EnvelopeBatchStep step = new EnvelopeBatchStep(recording(), Pipeline.start(), errorRouter, 100,
+                Duration.ofMillis(40));
+        step.apply(context("r0"));
+        step.apply(context("r1"));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (batches.isEmpty() && System.nanoTime() < deadline) Thread.sleep(5);
+        assertEquals(List.of(List.of("r0", "r1")), batches);
+        step.close();
+    }
+
+    @Test
+    void eachEnvelopeKeepsItsOwnOutcome() throws Exception {
+        RuntimeException failure = new IllegalStateException("disk full");
+        InboxWriter inbox = new InboxWriter() {
+            @Override
+            public IdempotencyKey receive(Envelope envelope) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<InboxWriteResult> receiveAll(List<Envelope> envelopes) {
+                return List.of(
+                        InboxWriteResult.stored(envelopes.get(0), envelopes.get(0).idempotencyKey()),
+                        InboxWriteResult.duplicate(envelopes.get(1)),
+                        InboxWriteResult.failed(envelopes.get(2), failure));
+            }
+        };
+        List<IdempotencyKey> published = new CopyOnWriteArrayList<>();
+        Pipeline<PipelineContext, PipelineContext> onStored = Pipeline.<PipelineContext>start().add(ctx -> {
+            published.add(ctx.require(CapturedPayloadKeys.RECEIVED_KEY));
+            return ctx;
+        });
+        EnvelopeBatchStep step = new EnvelopeBatchStep(inbox, onStored, errorRouter, 3, Duration.ZERO);
+        step.apply(context("stored"));
+        step.apply(context("duplicate"));
+        step.apply(context("failed"));
+
+        assertEquals(List.of(key("stored")), published);
+        assertEquals(2, errors.size());
+        assertTrue(errors.get(0) instanceof DuplicateEventException);
+        assertEquals(failure, errors.get(1));
+        step.close();
+    }
+
+    @Test
+    void batchesReachTheInboxOneAtATimeAndInOrder() throws Exception {
+        AtomicInteger writing = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        InboxWriter inbox = new InboxWriter() {
+            @Override
+            public IdempotencyKey receive(Envelope envelope) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<InboxWriteResult> receiveAll(List<Envelope> envelopes) {
+                if (writing.incrementAndGet() > 1) overlaps.incrementAndGet();
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                batches.add(envelopes.stream().map(Envelope::payload).toList());
+                writing.decrementAndGet();
+                List<InboxWriteResult> results = new ArrayList<>();
+                envelopes.forEach(e -> results.add(InboxWriteResult.stored(e, e.idempotencyKey())));
+                return results;
+            }
+        };
+        EnvelopeBatchStep step = new EnvelopeBatchStep(inbox, Pipeline.start(), errorRouter, 5, Duration.ofMillis(2));
+        int producers = 4;
+        int records = 300;
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            String lane = "lane" + p;
+            new Thread(() -> {
+                try {
+                    for (int i = 0; i < records; i++) step.apply(context(lane + "-" + i));
+                } catch (Exception e) {
+                    errors.add(e);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+        step.close();
+
+        assertEquals(0, overlaps.get());
+        assertTrue(errors.isEmpty(), "errors: " + errors);
+        for (int p = 0; p < producers; p++) {
+            String prefix = "lane" + p + "-";
+            List<Integer> order = new ArrayList<>();
+            batches.forEach(batch -> batch.stream().filter(r -> r.startsWith(prefix))
+                    .forEach(r -> order.add(Integer.parseInt(r.substring(prefix.length())))));
+            List<Integer> sorted = new ArrayList<>(order);
+            Collections.sort(sorted);
+            assertEquals(records, order.size());
+            assertEquals(sorted, order);
+        }
+    }
+
+    private InboxWriter recording() {
+        return new InboxWriter() {
+            @Override
+            public IdempotencyKey receive(Envelope envelope) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<InboxWriteResult> receiveAll(List<Envelope> envelopes) {
+                batches.add(envelopes.stream().map(Envelope::payload).toList());
+                List<InboxWriteResult> results = new ArrayList<>();
+                envelopes.forEach(e -> results.add(InboxWriteResult.stored(e, e.idempotencyKey())));
+                return results;
+            }
+        };
+    }
+
+    private static PipelineContext context(String payload) {
+        IdempotencyKey key = key(payload);
+        return PipelineContext.empty()
+                .with(CapturedPayloadKeys.CAPTURED_EVENT,
+                        SourcePayloadCaptured.builder().idempotencyKey(key).correlationId("test").build())
+                .with(CapturedPayloadKeys.ENVELOPE,
+                        new Envelope(key, new EventMetadata(), payload, EnvelopeStatus.CAPTURED, 0, Instant.now()));
+    }
+
+    private static IdempotencyKey key(String payload) {
+        return IdempotencyKey.of("orders", payload);
+    }
+}
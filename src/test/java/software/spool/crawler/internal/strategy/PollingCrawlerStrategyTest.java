@@ -0,0 +1,233 @@
+package software.spool.crawler.internal.strategy;
+
+import org.junit.jupiter.api.Test;
+import software.spool.core.adapter.otel.OpenTelemetryMetricsRegistry;
+import software.spool.core.utils.polling.CancellationToken;
+import software.spool.core.utils.routing.ErrorRouter;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.port.CheckpointStore;
+import software.spool.crawler.api.port.PayloadNormalizer;
+import software.spool.crawler.api.port.source.IncrementalPoll;
+import software.spool.crawler.api.port.source.IncrementalPollSource;
+import software.spool.crawler.api.port.source.PollSource;
+import software.spool.crawler.api.strategy.CycleOutcome;
+import software.spool.crawler.internal.control.CaptureHandler;
+import software.spool.crawler.internal.utils.CrawlerMetrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PollingCrawlerStrategyTest {
+    private final CrawlerMetrics metrics = CrawlerMetrics.of("orders", new OpenTelemetryMetricsRegistry());
+    private final List<String> handled = new ArrayList<>();
+    private final Set<String> failing = new HashSet<>();
+    private final Map<String, String> committed = new HashMap<>();
+    private final CancellationToken token = CancellationToken.create();
+
+    @Test
+    void aFailedCycleCommitsNoWatermarkAndIsReadAgain() {
+        Delta source = new Delta();
+        source.next = IncrementalPoll.of("{\"id\":1},{\"id\":2}", "2");
+        failing.add("{\"id\":2}");
+        PollingCrawlerStrategy<String> strategy = incremental(source, null);
+
+        assertEquals(CycleOutcome.PARTIAL, strategy.runOnce(token));
+        assertEquals(Map.of(), committed);
+        assertEquals(0, source.acknowledged);
+
+        failing.clear();
+        assertEquals(CycleOutcome.COMPLETED, strategy.runOnce(token));
+        assertEquals(Map.of("orders", "2"), committed);
+        assertEquals(1, source.acknowledged);
+        assertEquals(List.of("{\"id\":1}", "{\"id\":1}", "{\"id\":2}"), handled);
+
+        source.next = null;
+        assertEquals(CycleOutcome.UNCHANGED, strategy.runOnce(token));
+        assertEquals(Arrays.asList(null, null, "2"), source.requested);
+    }
+
+    @Test
+    void theWatermarkFieldIsTakenFromTheHighestRecordOfACleanCycle() {
+        Delta source = new Delta();
+        source.next = IncrementalPoll.of("{\"id\":9},{\"id\":10},{\"id\":3}");
+        PollingCrawlerStrategy<String> strategy = incremental(source, "/id");
+
+        assertEquals(CycleOutcome.COMPLETED, strategy.runOnce(token));
+        assertEquals(Map.of("orders", "10"), committed);
+        strategy.runOnce(token);
+        assertEquals("10", source.requested.get(1));
+    }
+
+    @Test
+    void aCancelledCycleCommitsNothing() {
+        Delta source = new Delta();
+        source.next = IncrementalPoll.of("{\"id\":1}", "1");
+        token.cancel();
+
+        incremental(source, null).runOnce(token);
+        assertEquals(Map.of(), committed);
+        assertEquals(0, source.acknowledged);
+    }
+
+    @Test
+    void aCommittedWatermarkIsResumedAfterARestart() {
+        committed.put("orders", "41");
+        Delta source = new Delta();
+
+        assertEquals(CycleOutcome.UNCHANGED, incremental(source, null).runOnce(token));
+        assertEquals(List.of("41"), source.requested);
+        assertNull(source.next);
+    }
+
+    @Test
+    void anUnchangedPayloadIsSkippedOnlyAfterACleanCycle() {
+        Snapshot source = new Snapshot("{\"id\":1},{\"id\":2}");
+        failing.add("{\"id\":2}");
+        PollingCrawlerStrategy<String> strategy = polling(source, fingerprint());
+
+        assertEquals(CycleOutcome.PARTIAL, strategy.runOnce(token));
+        failing.clear();
+        assertEquals(CycleOutcome.COMPLETED, strategy.runOnce(token));
+        assertEquals(CycleOutcome.UNCHANGED, strategy.runOnce(token));
+        assertEquals(List.of("{\"id\":1}", "{\"id\":1}", "{\"id\":2}"), handled);
+        assertEquals(1, source.acknowledged);
+    }
+
+    @Test
+    void aChangedPayloadIsProcessedAgain() {
+        Snapshot source = new Snapshot("{\"id\":1}");
+        PollingCrawlerStrategy<String> strategy = polling(source, fingerprint());
+
+        assertEquals(CycleOutcome.COMPLETED, strategy.runOnce(token));
+        source.payload = "{\"id\":2}";
+        assertEquals(CycleOutcome.COMPLETED, strategy.runOnce(token));
+        source.payload = "{\"id\":1}";
+        assertEquals(CycleOutcome.COMPLETED, strategy.runOnce(token));
+        assertEquals(List.of("{\"id\":1}", "{\"id\":2}", "{\"id\":1}"), handled);
+    }
+
+    @Test
+    void aCancelledCycleDoesNotCommitItsFingerprint() {
+        Snapshot source = new Snapshot("{\"id\":1}");
+        PollingCrawlerStrategy<String> strategy = polling(source, fingerprint());
+        CancellationToken cancelled = CancellationToken.create();
+        cancelled.cancel();
+
+        strategy.runOnce(cancelled);
+        assertEquals(CycleOutcome.COMPLETED, strategy.runOnce(token));
+        assertEquals(List.of("{\"id\":1}"), handled);
+    }
+
+    @Test
+    void theSourceIsAcknowledgedOnlyAfterACleanCycle() {
+        Snapshot source = new Snapshot("{\"id\":1}");
+        failing.add("{\"id\":1}");
+        PollingCrawlerStrategy<String> strategy = polling(source, PayloadFingerprint.disabled());
+
+        assertEquals(CycleOutcome.FAILED, strategy.runOnce(token));
+        assertEquals(0, source.acknowledged);
+        failing.clear();
+        assertEquals(CycleOutcome.COMPLETED, strategy.runOnce(token));
+        assertEquals(1, source.acknowledged);
+    }
+
+    private PollingCrawlerStrategy<String> incremental(IncrementalPollSource<String> source, String watermarkField) {
+        CheckpointStore store = new CheckpointStore() {
+            @Override
+            public Optional<String> load(String sourceId) {
+                return Optional.ofNullable(committed.get(sourceId));
+            }
+
+            @Override
+            public void commit(String sourceId, String watermark) {
+                committed.put(sourceId, watermark);
+            }
+        };
+        return new PollingCrawlerStrategy<>(source, new CommaSeparated(), new Recording(), null, new ErrorRouter(),
+                PayloadFingerprint.disabled(), Runnable::run, metrics, null,
+                WatermarkCheckpoint.of("orders", store, watermarkField));
+    }
+
+    private PollingCrawlerStrategy<String> polling(PollSource<String> source, PayloadFingerprint fingerprint) {
+        return new PollingCrawlerStrategy<>(source, new CommaSeparated(), new Recording(), null, new ErrorRouter(),
+                fingerprint, Runnable::run, metrics);
+    }
+
+    private static PayloadFingerprint fingerprint() {
+        return PayloadFingerprint.of("orders", new OpenTelemetryMetricsRegistry().histogram("skipped", "", "{poll}"));
+    }
+
+    private class Recording implements CaptureHandler {
+        @Override
+        public void handle(CapturedRecord record) {
+            if (failing.contains(record.payload())) metrics.recordsDropped(1);
+            else {
+                handled.add(record.payload());
+                metrics.inboxResults(1, 0, 0);
+            }
+        }
+    }
+
+    private static class CommaSeparated implements PayloadNormalizer {
+        @Override
+        public <I> Stream<String> transform(I poll) {
+            return Arrays.stream(((String) poll).split(",(?=\\{)"));
+        }
+    }
+
+    private static class Delta implements IncrementalPollSource<String> {
+        private final List<String> requested = new ArrayList<>();
+        private IncrementalPoll<String> next;
+        private int acknowledged;
+
+        @Override
+        public IncrementalPoll<String> pollSince(String watermark) {
+            requested.add(watermark);
+            return next;
+        }
+
+        @Override
+        public void acknowledge() {
+            acknowledged++;
+        }
+
+        @Override
+        public String sourceId() {
+            return "orders";
+        }
+    }
+
+    private static class Snapshot implements PollSource<String> {
+        private String payload;
+        private int acknowledged;
+
+        private Snapshot(String payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public String poll() {
+            return payload;
+        }
+
+        @Override
+        public void acknowledge() {
+            acknowledged++;
+        }
+
+        @Override
+        public String sourceId() {
+            return "orders";
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package software.spool.crawler.internal.strategy;
+
+import org.junit.jupiter.api.Test;
+import software.spool.crawler.api.port.CapturedRecord;
+import software.spool.crawler.api.port.CheckpointStore;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class WatermarkCheckpointTest {
+    private final Map<String, String> committed = new HashMap<>();
+    private int loads;
+    private final CheckpointStore store = new CheckpointStore() {
+        @Override
+        public Optional<String> load(String sourceId) {
+            loads++;
+            return Optional.ofNullable(committed.get(sourceId));
+        }
+
+        @Override
+        public void commit(String sourceId, String watermark) {
+            committed.put(sourceId, watermark);
+        }
+    };
+
+    @Test
+    void numericValuesCompareAsNumbers() {
+        WatermarkCheckpoint checkpoint = WatermarkCheckpoint.of("orders", store, "/id");
+        checkpoint.startCycle();
+        for (String id : new String[]{"9", "10", "2"}) checkpoint.observe(record("{\"id\":" + id + "}"));
+        checkpoint.commit(null);
+
+        assertEquals("10", committed.get("orders"));
+        assertEquals("10", checkpoint.last());
+    }
+
+    @Test
+    void timestampsCompareAsStrings() {
+        WatermarkCheckpoint checkpoint = WatermarkCheckpoint.of("orders", store, "/at");
+        checkpoint.startCycle();
+        checkpoint.observe(record("{\"at\":\"2024-05-01T10:00:00Z\"}"));
+        checkpoint.observe(record("{\"at\":\"2024-04-30T23:59:59Z\"}"));
+        checkpoint.observe(record("{\"other\":1}"));
+        checkpoint.commit(null);
+
+        assertEquals("2024-05-01T10:00:00Z", committed.get("orders"));
+    }
+
+    @Test
+    void aSuppliedWatermarkWinsOverObservedRecords() {
+        WatermarkCheckpoint checkpoint = WatermarkCheckpoint.of("orders", store, "/id");
+        checkpoint.startCycle();
+        checkpoint.observe(record("{\"id\":5}"));
+        checkpoint.commit("cursor-7");
+
+        assertEquals("cursor-7", committed.get("orders"));
+    }
+
+    @Test
+    void aNewCycleForgetsTheRecordsOfTheLastOne() {
+        WatermarkCheckpoint checkpoint = WatermarkCheckpoint.of("orders", store, "/id");
+        checkpoint.startCycle();
+        checkpoint.observe(record("{\"id\":5}"));
+        checkpoint.startCycle();
+        checkpoint.commit(null);
+
+        assertNull(checkpoint.last());
+        assertEquals(Map.of(), committed);
+    }
+
+    @Test
+    void theCommittedWatermarkIsLoadedOnce() {
+        committed.put("orders", "41");
+        WatermarkCheckpoint checkpoint = WatermarkCheckpoint.of("orders", store, null);
+
+        assertEquals("41", checkpoint.last());
+        assertEquals("41", checkpoint.last());
+        assertEquals(1, loads);
+    }
+
+    private static CapturedRecord record(String payload) {
+        return CapturedRecord.of(payload);
+    }
+}
@@ -0,0 +1,65 @@
+package software.spool.crawler.internal.utils;
+
+import org.junit.jupiter.api.Test;
+import software.spool.core.model.vo.IdempotencyKey;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyCacheTest {
+
+    @Test
+    void evictsTheLeastRecentlyUsedKey() {
+        IdempotencyCache cache = new IdempotencyCache(2, null);
+        cache.remember(key(1));
+        cache.remember(key(2));
+        assertTrue(cache.contains(key(1)));
+        cache.remember(key(3));
+
+        assertTrue(cache.contains(key(1)));
+        assertFalse(cache.contains(key(2)));
+        assertTrue(cache.contains(key(3)));
+    }
+
+    @Test
+    void entriesExpireAfterTheirTimeToLive() throws InterruptedException {
+        IdempotencyCache cache = new IdempotencyCache(10, Duration.ofMillis(50));
+        cache.remember(key(1));
+        assertTrue(cache.contains(key(1)));
+
+        Thread.sleep(80);
+        assertFalse(cache.contains(key(1)));
+        cache.remember(key(1));
+        assertTrue(cache.contains(key(1)));
+    }
+
+    @Test
+    void withoutATimeToLiveEntriesStay() throws InterruptedException {
+        IdempotencyCache cache = new IdempotencyCache(10, Duration.ZERO);
+        cache.remember(key(1));
+
+        Thread.sleep(20);
+        assertTrue(cache.contains(key(1)));
+    }
+
+    @Test
+    void invalidatedKeysAreForgotten() {
+        IdempotencyCache cache = new IdempotencyCache(10, null);
+        cache.remember(key(1));
+        cache.invalidate(key(1));
+
+        assertFalse(cache.contains(key(1)));
+    }
+
+    @Test
+    void rejectsAnEmptyCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new IdempotencyCache(0, null));
+    }
+
+    private static IdempotencyKey key(int i) {
+        return IdempotencyKey.of("orders", "{\"id\":" + i + "}");
+    }
+}
@@ -0,0 +1,92 @@
+package software.spool.crawler.internal.utils.factory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ResultSetNormalizerTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] LABELS = {"id", "count", "ratio", "score", "total", "active", "name", "created", "id"};
+    private static final int[] TYPES = {Types.BIGINT, Types.INTEGER, Types.DOUBLE, Types.REAL, Types.NUMERIC,
+            Types.BOOLEAN, Types.VARCHAR, Types.TIMESTAMP, Types.BIGINT};
+    private static final Object[][] ROWS = {
+            {1L, 7, 1.5, 2.25f, new BigDecimal("10.50"), true, "café \"quoted\"",
+                    new Timestamp(1714557600000L), 100L},
+            {2L, null, null, null, null, null, null, null, 200L},
+            {Long.MAX_VALUE, -1, -0.125, 0f, new BigDecimal("1E+3"), false, "", new Timestamp(0), 300L}
+    };
+
+    @Test
+    void rowsMatchTheMapBasedFormat() {
+        List<String> expected = PayloadSplitterFactory.resultSet().split(resultSet()).map(row -> {
+            try {
+                return MAPPER.writeValueAsString(row);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+
+        try (Stream<String> rows = ResultSetNormalizer.of().transform(resultSet())) {
+            assertEquals(expected, rows.toList());
+        }
+    }
+
+    @Test
+    void aRepeatedLabelKeepsItsFirstPositionAndLastValue() throws Exception {
+        try (Stream<String> rows = ResultSetNormalizer.of(10).transform(resultSet())) {
+            String first = rows.findFirst().orElseThrow();
+            assertEquals("id", MAPPER.readTree(first).fieldNames().next());
+            assertEquals(100, MAPPER.readTree(first).get("id").asLong());
+        }
+    }
+
+    private static ResultSet resultSet() {
+        ResultSetMetaData meta = (ResultSetMetaData) Proxy.newProxyInstance(ResultSetNormalizerTest.class.getClassLoader(),
+                new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> LABELS.length;
+                    case "getColumnLabel", "getColumnName" -> LABELS[(int) args[0] - 1];
+                    case "getColumnType" -> TYPES[(int) args[0] - 1];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        int[] row = {-1};
+        Object[] last = {null};
+        return (ResultSet) Proxy.newProxyInstance(ResultSetNormalizerTest.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return ++row[0] < ROWS.length;
+                        case "getMetaData":
+                            return meta;
+                        case "getType":
+                            return ResultSet.TYPE_FORWARD_ONLY;
+                        case "setFetchSize":
+                        case "setFetchDirection":
+                            return null;
+                        case "wasNull":
+                            return last[0] == null;
+                        default:
+                            break;
+                    }
+                    Object value = last[0] = ROWS[row[0]][(int) args[0] - 1];
+                    return switch (method.getName()) {
+                        case "getObject", "getBigDecimal", "getString" -> value;
+                        case "getLong" -> value == null ? 0L : (Long) value;
+                        case "getInt" -> value == null ? 0 : (Integer) value;
+                        case "getDouble" -> value == null ? 0d : (Double) value;
+                        case "getFloat" -> value == null ? 0f : (Float) value;
+                        case "getBoolean" -> value != null && (Boolean) value;
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    };
+                });
+    }
+}
@@ -0,0 +1,85 @@
+package software.spool.crawler.internal.utils.factory;
+
+import org.junit.jupiter.api.Test;
+import software.spool.core.exception.SplitException;
+import software.spool.crawler.api.port.CapturedRecord;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingJsonNormalizerTest {
+
+    @Test
+    void splitsTheRootArray() {
+        assertEquals(List.of("{\"id\":1}", "{\"id\":2}", "3"), elements("", "[{\"id\":1},{\"id\":2},3]"));
+    }
+
+    @Test
+    void skipsSiblingsThatReuseTheFieldName() {
+        String payload = "{\"meta\":{\"data\":[0]},\"data\":[{\"data\":[9]},{\"a\":1}],\"tail\":{}}";
+
+        assertEquals(List.of("{\"data\":[9]}", "{\"a\":1}"), elements("/data", payload));
+    }
+
+    @Test
+    void followsArrayIndexesInThePointer() {
+        String payload = "{\"pages\":[{\"items\":[1]},{\"items\":[2,3]}]}";
+
+        assertEquals(List.of("2", "3"), elements("/pages/1/items", payload));
+    }
+
+    @Test
+    void aMissingPathOrANonArrayTargetIsASplitError() {
+        assertThrows(SplitException.class, () -> elements("/missing", "{\"data\":[1]}"));
+        assertThrows(SplitException.class, () -> elements("/pages/2", "{\"pages\":[[1]]}"));
+        assertThrows(SplitException.class, () -> elements("/data", "{\"data\":{\"a\":1}}"));
+    }
+
+    @Test
+    void recordsCarryTheirParsedTree() {
+        try (Stream<CapturedRecord> records = StreamingJsonNormalizer.of("").records("[{\"id\":7}]")) {
+            CapturedRecord record = records.findFirst().orElseThrow();
+            assertNotNull(record.parsedTree());
+            assertEquals(7, record.parsedTree().get("id").asInt());
+        }
+    }
+
+    @Test
+    void elementsAreReadLazily() {
+        try (Stream<CapturedRecord> records = StreamingJsonNormalizer.of("").records("[{\"id\":1},{\"id\":")) {
+            Iterator<CapturedRecord> iterator = records.iterator();
+            assertEquals(1, iterator.next().parsedTree().get("id").asInt());
+            assertThrows(SplitException.class, iterator::hasNext);
+        }
+    }
+
+    @Test
+    void closingTheStreamClosesTheInput() {
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayInputStream in = new ByteArrayInputStream("[1,2,3]".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        try (Stream<CapturedRecord> records = StreamingJsonNormalizer.of("").records(in)) {
+            assertEquals(1, records.iterator().next().parsedTree().asInt());
+        }
+        assertTrue(closed.get());
+    }
+
+    private static List<String> elements(String rootPath, String payload) {
+        try (Stream<CapturedRecord> records = StreamingJsonNormalizer.of(rootPath).records(payload)) {
+            return records.map(record -> record.parsedTree().toString()).toList();
+        }
+    }
+}